@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time-to-first-request and resident memory for the baseline fat jar
+# versus the fast-startup build (Spring AOT + AppCDS archive).
+#
+#   scripts/startup-benchmark.sh [runs]
+#
+# Both variants boot with the default (H2) profile. Time is measured from process launch
+# until the first request (a failed login, which goes through security, JPA and BCrypt-free
+# error handling) gets an HTTP response. RSS is read from /proc right after that response.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+JAR="$(cd "$ROOT" && sh ./mvnw -q help:evaluate -Dexpression=project.build.finalName -DforceStdout)"
+
+echo "Building fast-startup profile (also produces the baseline fat jar)..."
+(cd "$ROOT" && sh ./mvnw -q -DskipTests -Pfast-startup package > /dev/null)
+
+measure() {
+    local label="$1"; shift
+    local start pid code elapsed rss
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" > "$TARGET/startup-$label.log" 2>&1 &
+    pid=$!
+    code=000
+    until [ "$code" != "000" ]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$label: application exited, see $TARGET/startup-$label.log" >&2
+            exit 1
+        fi
+        sleep 0.02
+        code=$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/auth/login" \
+            -H 'Content-Type: application/json' -d '{"email":"bench@example.com","password":"bench"}' || true)
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+report() {
+    local label="$1"; shift
+    local times=() rsss=() result
+    for _ in $(seq "$RUNS"); do
+        result=$(measure "$label" "$@")
+        times+=("${result% *}"); rsss+=("${result#* }")
+    done
+    local median_time median_rss
+    median_time=$(printf '%s\n' "${times[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+    median_rss=$(printf '%s\n' "${rsss[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+    printf '%-10s time-to-first-request %6d ms   RSS %7d KiB   (median of %d, runs: %s ms)\n' \
+        "$label" "$median_time" "$median_rss" "$RUNS" "${times[*]}"
+}
+
+report baseline java -jar "$TARGET/$JAR.jar"
+report optimized java -XX:SharedArchiveFile="$TARGET/startup/proposal.jsa" -Dspring.aot.enabled=true \
+    -jar "$TARGET/startup/$JAR-startup.jar"
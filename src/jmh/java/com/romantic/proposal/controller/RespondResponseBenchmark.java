@@ -0,0 +1,56 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.dto.RespondResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producing the respond endpoint's body: the former fresh HashMap serialized per request,
+ * the record serialized per request, and the pre-serialized constant the controller now
+ * returns. Compare gc.alloc.rate.norm across the three.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RespondResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ConstantJsonResponses constantJsonResponses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        constantJsonResponses = new ConstantJsonResponses(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] hashMapPerRequest() throws JsonProcessingException {
+        Map<String, String> responseMap = new HashMap<>();
+        responseMap.put("message", "Response recorded successfully");
+        responseMap.put("status", "success");
+        return objectMapper.writeValueAsBytes(ResponseEntity.ok(responseMap).getBody());
+    }
+
+    @Benchmark
+    public byte[] recordPerRequest() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ResponseEntity.ok(RespondResponse.RECORDED).getBody());
+    }
+
+    @Benchmark
+    public byte[] preSerialized() {
+        return constantJsonResponses.ok(RespondResponse.RECORDED).getBody();
+    }
+}
@@ -0,0 +1,101 @@
+package com.romantic.proposal.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into a UUID-keyed table that already holds {@code preloadRows} rows,
+ * with random (v4) against time-ordered (v7) keys. One operation is a committed batch of
+ * {@code batchSize} rows.
+ *
+ * <p>Runs against an in-memory H2 database by default. For the numbers that matter, point
+ * it at PostgreSQL with {@code BENCHMARK_JDBC_URL}, {@code BENCHMARK_JDBC_USER} and
+ * {@code BENCHMARK_JDBC_PASSWORD} (environment variables reach the forked JVM).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidKeyInsertBenchmark {
+
+    private static final String TABLE = "uuid_insert_benchmark";
+
+    @Param({"v4", "v7"})
+    private String keyType;
+
+    @Param("1000000")
+    private int preloadRows;
+
+    @Param("100")
+    private int batchSize;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> keys;
+
+    @Setup(Level.Trial)
+    public void createAndPreloadTable() throws SQLException {
+        String url = System.getenv().getOrDefault("BENCHMARK_JDBC_URL", "jdbc:h2:mem:uuid_benchmark");
+        connection = DriverManager.getConnection(url,
+                System.getenv().getOrDefault("BENCHMARK_JDBC_USER", "sa"),
+                System.getenv().getOrDefault("BENCHMARK_JDBC_PASSWORD", ""));
+        connection.setAutoCommit(false);
+        keys = "v7".equals(keyType) ? UuidV7::next : UUID::randomUUID;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL, payload VARCHAR(64))");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, created_at, payload) VALUES (?, ?, ?)");
+
+        for (int loaded = 0; loaded < preloadRows; loaded += 10_000) {
+            insertBatch(Math.min(10_000, preloadRows - loaded));
+        }
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        return insertBatch(batchSize);
+    }
+
+    private int[] insertBatch(int rows) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < rows; i++) {
+            insert.setObject(1, keys.get());
+            insert.setTimestamp(2, now);
+            insert.setString(3, "payload");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    @TearDown(Level.Trial)
+    public void dropTable() throws SQLException {
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+}
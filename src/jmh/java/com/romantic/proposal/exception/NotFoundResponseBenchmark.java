@@ -0,0 +1,91 @@
+package com.romantic.proposal.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An unknown proposal token, from the throw in the service to the response bytes: the
+ * former stack-capturing exception with a per-request ErrorResponse serialized by Jackson,
+ * against the stackless exception and the pre-serialized body GlobalExceptionHandler now
+ * replays. The exception is thrown {@code stackDepth} frames down, as in a real request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotFoundResponseBenchmark {
+
+    @Param({"20", "120"})
+    public int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+
+    /** How ProposalNotFoundException behaved before: a plain RuntimeException. */
+    static class StackTraceNotFoundException extends RuntimeException {
+        StackTraceNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // Sampled logging stays at its field default (off) so no log output skews the numbers
+        handler = new GlobalExceptionHandler(new ClientErrorResponses(objectMapper));
+        request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/proposal/no-such-token/respond"));
+    }
+
+    @Benchmark
+    public byte[] before() throws JsonProcessingException {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (StackTraceNotFoundException ex) {
+            ErrorResponse error = new ErrorResponse(
+                    LocalDateTime.now(),
+                    HttpStatus.NOT_FOUND.value(),
+                    "Not Found",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return objectMapper.writeValueAsBytes(error);
+        }
+    }
+
+    @Benchmark
+    public byte[] after() {
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (ProposalNotFoundException ex) {
+            return handler.handleProposalNotFoundException(ex, request).getBody();
+        }
+    }
+
+    private static void throwAt(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            throwAt(depth - 1, withStackTrace);
+        } else if (withStackTrace) {
+            throw new StackTraceNotFoundException("Invalid proposal token");
+        } else {
+            throw new ProposalNotFoundException("Invalid proposal token");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.romantic.proposal.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The public-endpoint check that runs before every request reaches the JWT filter,
+ * for an exact match, a wildcard match and a protected path (which tries every pattern).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest login;
+    private MockHttpServletRequest respond;
+    private MockHttpServletRequest create;
+
+    @Setup
+    public void setUp() {
+        filter = new JwtAuthenticationFilter(null);
+        login = new MockHttpServletRequest("POST", "/api/auth/login");
+        respond = new MockHttpServletRequest("POST", "/api/proposal/0123456789abcdef0123456789abcdef/respond");
+        create = new MockHttpServletRequest("POST", "/api/proposal/create");
+    }
+
+    @Benchmark
+    public boolean exactPublicPath() {
+        return filter.shouldNotFilter(login);
+    }
+
+    @Benchmark
+    public boolean wildcardPublicPath() {
+        return filter.shouldNotFilter(respond);
+    }
+
+    @Benchmark
+    public boolean protectedPath() {
+        return filter.shouldNotFilter(create);
+    }
+}
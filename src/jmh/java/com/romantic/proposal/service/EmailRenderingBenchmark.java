@@ -0,0 +1,31 @@
+package com.romantic.proposal.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML body rendering for both notification emails, without the MIME and SMTP work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmailRenderingBenchmark {
+
+    private final String proposalLink = "http://127.0.0.1:5500/index.html?proposal=0123456789abcdef0123456789abcdef";
+
+    @Benchmark
+    public String positiveHtml() {
+        return EmailService.buildPositiveHtmlEmail(proposalLink);
+    }
+
+    @Benchmark
+    public String negativeHtml() {
+        return EmailService.buildNegativeHtmlEmail(proposalLink);
+    }
+}
@@ -0,0 +1,25 @@
+package com.romantic.proposal.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Share-token generation done by {@code createProposal} (SecureRandom-backed UUID plus
+ * string rewriting).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProposalTokenBenchmark {
+
+    @Benchmark
+    public String newProposalToken() {
+        return ProposalService.newProposalToken();
+    }
+}
@@ -0,0 +1,111 @@
+package com.romantic.proposal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP client for the public API that times every call into {@link LoadStats}.
+ */
+final class ApiClient {
+
+    record Account(String email, String token) {
+    }
+
+    record CreatedProposal(String proposalId, String uniqueToken, String shareableLink) {
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final String baseUrl;
+    private final LoadStats stats;
+
+    ApiClient(String baseUrl, LoadStats stats) {
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    Account register(String email, String password) throws IOException, InterruptedException {
+        return register(email, password, System.nanoTime());
+    }
+
+    /**
+     * Registers with latency measured from {@code startNanos}, the moment an open-model
+     * schedule intended the call to go out, so a late start counts against the response time.
+     */
+    Account register(String email, String password, long startNanos) throws IOException, InterruptedException {
+        JsonNode body = send("register", post("/api/auth/register", null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\",\"name\":\"Load Test\"}"), startNanos);
+        return new Account(email, body.path("token").asText());
+    }
+
+    Account login(String email, String password) throws IOException, InterruptedException {
+        JsonNode body = send("login", post("/api/auth/login", null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+        return new Account(email, body.path("token").asText());
+    }
+
+    CreatedProposal create(Account account) throws IOException, InterruptedException {
+        JsonNode body = send("create", post("/api/proposal/create", account.token(), ""));
+        return new CreatedProposal(body.path("proposalId").asText(), body.path("uniqueToken").asText(),
+                body.path("shareableLink").asText());
+    }
+
+    void respond(CreatedProposal proposal, String answer) throws IOException, InterruptedException {
+        send("respond", post("/api/proposal/" + proposal.uniqueToken() + "/respond", null,
+                "{\"response\":\"" + answer + "\"}"));
+    }
+
+    JsonNode status(Account account, CreatedProposal proposal) throws IOException, InterruptedException {
+        return send("status", request("/api/proposal/" + proposal.proposalId() + "/status", account.token()).GET().build());
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        return send(endpoint, request, System.nanoTime());
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request, long start) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, true);
+            throw e;
+        }
+        boolean error = response.statusCode() >= 400;
+        stats.record(endpoint, System.nanoTime() - start, error);
+        if (error) {
+            throw new IOException(endpoint + " returned HTTP " + response.statusCode());
+        }
+        byte[] body = response.body();
+        return body.length == 0 ? JSON.nullNode() : JSON.readTree(body);
+    }
+}
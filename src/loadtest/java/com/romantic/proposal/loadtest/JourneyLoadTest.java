@@ -0,0 +1,188 @@
+package com.romantic.proposal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model macro-benchmark of the full user journey, used as a p99 regression gate.
+ *
+ * <p>New visitors arrive as a seeded Poisson process at {@code loadtest.arrival-rate} journeys
+ * per second, whether or not earlier journeys have finished, so a slow server builds up a
+ * queue instead of quietly slowing the load down. Each journey registers a fresh account,
+ * creates a proposal, shares it (the visitor takes the token from the shareable link, as the
+ * frontend does), responds, and checks the status. The first request is timed from the
+ * moment the schedule said it should start, so scheduling delay is not hidden either.</p>
+ *
+ * <p>Everything runs offline: the app uses in-memory H2 and {@link FakeSmtpServer}. Results
+ * per endpoint go to {@code loadtest.result}; the build fails when any endpoint's p99
+ * exceeds the stored baseline by more than {@code loadtest.p99-tolerance}, or when its error
+ * rate exceeds {@code loadtest.max-error-rate}. Baselines are machine-specific: refresh one
+ * on the machine that runs the gate with {@code -Dloadtest.update-baseline=true}.</p>
+ *
+ * <pre>
+ * mvn -Ploadtest verify -DskipTests -Dloadtest.arrival-rate=2 -Dloadtest.duration=PT30S
+ * </pre>
+ */
+public final class JourneyLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final String SHARE_PARAMETER = "proposal=";
+
+    private JourneyLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        double arrivalRate = Double.parseDouble(System.getProperty("loadtest.arrival-rate", "2"));
+        Duration warmUp = Duration.parse(System.getProperty("loadtest.warm-up", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        Duration smtpLatency = Duration.parse(System.getProperty("loadtest.smtp-latency", "PT0.05S"));
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 2000);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        Path resultPath = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+        Path baselinePath = Path.of(System.getProperty("loadtest.baseline", "src/loadtest/journey-baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.p99-tolerance", "0.25"));
+        Duration slack = Duration.parse(System.getProperty("loadtest.p99-slack", "PT0.005S"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.update-baseline");
+
+        String workload = String.format("journeys at %s/s (Poisson, seed %d), %s warm-up, %s measured, %s SMTP latency",
+                arrivalRate, seed, warmUp, duration, smtpLatency);
+        PrintStream report = System.out;
+        report.println(workload);
+
+        JsonNode result;
+        try (FakeSmtpServer smtp = FakeSmtpServer.start(smtpLatency);
+             LoadTestApp app = LoadTestApp.start("journeys", smtp, Map.of())) {
+            // The application still prints per-request diagnostics to stdout; keep them out of the report.
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            LoadStats stats = new LoadStats();
+            ApiClient client = new ApiClient(app.baseUrl(), stats);
+
+            long dropped = run(client, stats, arrivalRate, seed, warmUp, duration, maxInFlight);
+            stats.stop();
+
+            System.setOut(report);
+            stats.print(report, "open-model journeys", duration);
+            report.printf("dropped arrivals (over %d in flight) %d, emails delivered %d%n", maxInFlight, dropped, smtp.messages());
+            result = LatencyBaseline.toJson(workload, stats, duration);
+        } finally {
+            System.setOut(report);
+        }
+        LatencyBaseline.write(resultPath, result);
+        report.println("Results written to " + resultPath);
+
+        if (updateBaseline) {
+            LatencyBaseline.write(baselinePath, result);
+            report.println("Baseline updated: " + baselinePath);
+            return;
+        }
+
+        List<String> failures = new ArrayList<>(LatencyBaseline.errorRateViolations(result, maxErrorRate));
+        JsonNode baseline = LatencyBaseline.read(baselinePath);
+        if (baseline == null) {
+            report.println("No baseline at " + baselinePath + "; p99 gate skipped");
+        } else if (!workload.equals(baseline.path("workload").asText())) {
+            report.println("Baseline was recorded for a different workload (" + baseline.path("workload").asText()
+                    + "); p99 gate skipped");
+        } else {
+            failures.addAll(LatencyBaseline.p99Regressions(baseline, result, tolerance, slack));
+        }
+
+        if (!failures.isEmpty()) {
+            report.println("Load-test gate FAILED:");
+            failures.forEach(failure -> report.println("  " + failure));
+            System.exit(1);
+        }
+        report.println("Load-test gate passed");
+    }
+
+    /**
+     * Starts journeys on schedule until the run ends, then waits for the stragglers.
+     * Returns how many arrivals were dropped because too many journeys were already in flight.
+     */
+    private static long run(ApiClient client, LoadStats stats, double arrivalRate, long seed,
+                            Duration warmUp, Duration duration, int maxInFlight) throws InterruptedException {
+        Random arrivals = new Random(seed);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicLong dropped = new AtomicLong();
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+        boolean measuring = false;
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long scheduled = start;
+        for (long journey = 0; ; journey++) {
+            // Exponential inter-arrival times give a Poisson arrival process
+            scheduled += (long) (-Math.log(1 - arrivals.nextDouble()) / arrivalRate * 1e9);
+            if (scheduled >= deadline) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && scheduled >= measureFrom) {
+                stats.reset();
+                dropped.set(0);
+                measuring = true;
+            }
+
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                dropped.incrementAndGet();
+                stats.record("journey", 0, true);
+                continue;
+            }
+            long intendedStart = scheduled;
+            String email = "journey" + journey + "@example.com";
+            executor.submit(() -> {
+                try {
+                    journey(client, stats, email, intendedStart);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(2, TimeUnit.MINUTES);
+        return dropped.get();
+    }
+
+    private static void journey(ApiClient client, LoadStats stats, String email, long intendedStart) {
+        boolean failed = true;
+        try {
+            ApiClient.Account account = client.register(email, PASSWORD, intendedStart);
+            ApiClient.CreatedProposal created = client.create(account);
+
+            // Share: the visitor only has the link; the frontend extracts the token from it
+            String link = created.shareableLink();
+            String sharedToken = link.substring(link.indexOf(SHARE_PARAMETER) + SHARE_PARAMETER.length());
+            ApiClient.CreatedProposal shared = new ApiClient.CreatedProposal(created.proposalId(), sharedToken, link);
+
+            client.respond(shared, (email.hashCode() & 1) == 0 ? "YES" : "NO");
+            JsonNode status = client.status(account, created);
+            failed = !status.path("answered").asBoolean();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Already counted against the failing endpoint; the journey is marked failed below
+        } finally {
+            stats.record("journey", System.nanoTime() - intendedStart, failed);
+        }
+    }
+}
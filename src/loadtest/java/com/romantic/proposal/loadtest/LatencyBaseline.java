@@ -0,0 +1,97 @@
+package com.romantic.proposal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-endpoint results of a load-test run as JSON, and the p99 regression check against a
+ * stored baseline in the same format. Baselines are only comparable with runs of the same
+ * workload on the same kind of machine, so the workload is stored alongside the numbers.
+ */
+final class LatencyBaseline {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LatencyBaseline() {
+    }
+
+    static ObjectNode toJson(String workload, LoadStats stats, Duration elapsed) {
+        ObjectNode root = JSON.createObjectNode();
+        root.put("workload", workload);
+        root.put("java", Runtime.version().toString());
+        root.put("cpus", Runtime.getRuntime().availableProcessors());
+        ObjectNode endpoints = root.putObject("endpoints");
+        double seconds = elapsed.toNanos() / 1e9;
+        stats.endpoints().forEach((endpoint, histogram) -> {
+            ObjectNode node = endpoints.putObject(endpoint);
+            node.put("requests", histogram.count());
+            node.put("throughput", round(histogram.count() / seconds));
+            node.put("errorRate", histogram.count() == 0 ? 0.0 : round((double) histogram.errors() / histogram.count()));
+            node.put("p50Ms", histogram.percentile(0.50) / 1000.0);
+            node.put("p95Ms", histogram.percentile(0.95) / 1000.0);
+            node.put("p99Ms", histogram.percentile(0.99) / 1000.0);
+            node.put("p999Ms", histogram.percentile(0.999) / 1000.0);
+        });
+        return root;
+    }
+
+    static void write(Path path, JsonNode result) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        JSON.writeValue(path.toFile(), result);
+    }
+
+    static JsonNode read(Path path) throws IOException {
+        return Files.exists(path) ? JSON.readTree(path.toFile()) : null;
+    }
+
+    /**
+     * Endpoints whose p99 exceeds the baseline by more than {@code tolerance} (a fraction)
+     * plus {@code slack}, which keeps sub-millisecond noise from failing the gate.
+     */
+    static List<String> p99Regressions(JsonNode baseline, JsonNode result, double tolerance, Duration slack) {
+        List<String> regressions = new ArrayList<>();
+        double slackMs = slack.toNanos() / 1e6;
+        baseline.path("endpoints").fields().forEachRemaining(entry -> {
+            double expected = entry.getValue().path("p99Ms").asDouble();
+            JsonNode current = result.path("endpoints").path(entry.getKey());
+            if (current.isMissingNode()) {
+                regressions.add(entry.getKey() + ": no requests in this run");
+                return;
+            }
+            double limit = expected * (1 + tolerance) + slackMs;
+            double actual = current.path("p99Ms").asDouble();
+            if (actual > limit) {
+                regressions.add(String.format("%s: p99 %.2f ms > %.2f ms allowed (baseline %.2f ms)",
+                        entry.getKey(), actual, limit, expected));
+            }
+        });
+        return regressions;
+    }
+
+    static List<String> errorRateViolations(JsonNode result, double maxErrorRate) {
+        List<String> violations = new ArrayList<>();
+        result.path("endpoints").fields().forEachRemaining(entry -> {
+            double errorRate = entry.getValue().path("errorRate").asDouble();
+            if (errorRate > maxErrorRate) {
+                violations.add(String.format("%s: error rate %.2f%% > %.2f%% allowed",
+                        entry.getKey(), errorRate * 100, maxErrorRate * 100));
+            }
+        });
+        return violations;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
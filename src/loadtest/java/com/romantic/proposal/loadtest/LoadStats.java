@@ -0,0 +1,50 @@
+package com.romantic.proposal.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Per-endpoint latency and error statistics for one load-test run.
+ */
+final class LoadStats {
+
+    private final Map<String, LatencyHistogram> endpoints = new ConcurrentSkipListMap<>();
+    private volatile boolean recording = true;
+
+    void record(String endpoint, long nanos, boolean error) {
+        if (recording) {
+            endpoints.computeIfAbsent(endpoint, e -> new LatencyHistogram()).record(nanos, error);
+        }
+    }
+
+    /** Discards everything recorded so far (e.g. after warm-up) and keeps recording. */
+    void reset() {
+        endpoints.clear();
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    Map<String, LatencyHistogram> endpoints() {
+        return endpoints;
+    }
+
+    void print(PrintStream out, String title, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        out.printf("%n== %s (%.1fs) ==%n", title, seconds);
+        out.printf("%-10s %9s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "err%", "p50 ms", "p95 ms", "p99 ms", "p999 ms");
+        endpoints.forEach((endpoint, histogram) -> out.printf("%-10s %9d %9.1f %7.2f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                histogram.count(),
+                histogram.count() / seconds,
+                histogram.count() == 0 ? 0.0 : 100.0 * histogram.errors() / histogram.count(),
+                histogram.percentile(0.50) / 1000.0,
+                histogram.percentile(0.95) / 1000.0,
+                histogram.percentile(0.99) / 1000.0,
+                histogram.percentile(0.999) / 1000.0));
+    }
+}
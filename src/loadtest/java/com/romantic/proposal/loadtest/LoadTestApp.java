@@ -0,0 +1,70 @@
+package com.romantic.proposal.loadtest;
+
+import com.romantic.proposal.ProposalApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Boots the real application in-process against a private in-memory H2 database and the
+ * given SMTP stand-in, with request logging turned down so it does not dominate the profile.
+ */
+final class LoadTestApp implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestApp(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static LoadTestApp start(String name, FakeSmtpServer smtp, Map<String, Object> overrides) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + name + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.h2.console.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.romantic", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.springframework.mail", "WARN");
+        properties.put("spring.mail.host", "localhost");
+        properties.put("spring.mail.port", smtp.port());
+        properties.put("spring.mail.username", "");
+        properties.put("spring.mail.password", "");
+        properties.put("spring.mail.properties.mail.debug", false);
+        properties.put("spring.mail.properties.mail.smtp.auth", false);
+        properties.put("spring.mail.properties.mail.smtp.starttls.enable", false);
+        properties.put("spring.mail.properties.mail.smtp.starttls.required", false);
+        properties.put("app.email.from", "loadtest@localhost");
+        properties.put("app.retention.enabled", false);
+        properties.putAll(overrides);
+
+        // Launched from a main method, devtools would restart the app in a new classloader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Passed as command-line arguments so they take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ProposalApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(args);
+        return new LoadTestApp(context);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,215 @@
+package com.romantic.proposal.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+/**
+ * Holds {@code loadtest.clients} concurrent pollers on {@code GET /api/proposal/{id}/status}
+ * against each read stack — JPA/JDBC on Tomcat threads, then R2DBC
+ * ({@code app.reactive-reads.enabled=true}) — and prints what each needed to keep up: peak
+ * busy Tomcat threads, peak JDBC and R2DBC connections in use, and peak JVM platform threads,
+ * next to the poll rate and latency percentiles actually achieved.
+ *
+ * <p>Every poller keeps its own keep-alive connection and polls at a fixed rate of one
+ * request per {@code loadtest.poll-interval}, starting at a random offset so the load is
+ * spread evenly; a poller that falls behind polls again immediately. Pollers share
+ * {@code loadtest.accounts} accounts, one open proposal each.</p>
+ *
+ * <p>Runs offline on in-memory H2. r2dbc-h2 executes each query inline on the subscribing
+ * thread, so on H2 the R2DBC stack keeps the Tomcat thread for the query and the thread
+ * figures of the two runs stay close; what differs is which pool the connections come from.
+ * The thread savings need a driver that does network I/O (PostgreSQL).</p>
+ *
+ * <pre>
+ * mvn -Ploadtest verify -DskipTests -Dloadtest.main=com.romantic.proposal.loadtest.PollingStackComparison \
+ *     -Dloadtest.clients=10000 -Dloadtest.poll-interval=PT10S -Dloadtest.duration=PT30S
+ * </pre>
+ */
+public final class PollingStackComparison {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final long SAMPLE_INTERVAL_NANOS = Duration.ofMillis(5).toNanos();
+
+    private PollingStackComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int pollers = Integer.getInteger("loadtest.clients", 10_000);
+        int accounts = Math.min(pollers, Integer.getInteger("loadtest.accounts", 50));
+        Duration warmUp = Duration.parse(System.getProperty("loadtest.warm-up", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        Duration pollInterval = Duration.parse(System.getProperty("loadtest.poll-interval", "PT10S"));
+
+        PrintStream report = System.out;
+        report.printf("%d pollers over %d accounts, one poll per %s each (%.0f polls/s offered), %s warm-up, %s measured%n",
+                pollers, accounts, pollInterval, pollers / (pollInterval.toNanos() / 1e9), warmUp, duration);
+
+        for (String stack : System.getProperty("loadtest.modes", "jdbc,r2dbc").split(",")) {
+            boolean reactive = stack.trim().equals("r2dbc");
+            try (FakeSmtpServer smtp = FakeSmtpServer.start(Duration.ZERO);
+                 LoadTestApp app = LoadTestApp.start("polling-" + stack.trim(), smtp, Map.of(
+                         "app.reactive-reads.enabled", reactive,
+                         "spring.r2dbc.url", "r2dbc:h2:mem:///loadtest-polling-" + stack.trim() + ";DB_CLOSE_DELAY=-1",
+                         // Room for every poller's connection; threads and pools keep their defaults
+                         "server.tomcat.max-connections", pollers + 1000,
+                         "server.tomcat.accept-count", 1000))) {
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                LoadStats stats = new LoadStats();
+                ApiClient client = new ApiClient(app.baseUrl(), stats);
+                List<Target> targets = prepare(client, accounts);
+
+                Resources resources = new Resources(app.context());
+                Result result = run(client, targets, pollers, pollInterval, warmUp, duration, stats, resources);
+                stats.stop();
+
+                System.setOut(report);
+                stats.print(report, reactive ? "R2DBC reactive reads" : "JPA/JDBC blocking reads", duration);
+                report.printf("polls/s %.1f, failed polls %d%n", result.polls() / (duration.toNanos() / 1e9), result.failures());
+                resources.print(report);
+            } finally {
+                System.setOut(report);
+            }
+        }
+    }
+
+    private record Target(ApiClient.Account account, ApiClient.CreatedProposal proposal) {
+    }
+
+    private record Result(long polls, long failures) {
+    }
+
+    private static List<Target> prepare(ApiClient client, int accounts) throws Exception {
+        List<Target> targets = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            ApiClient.Account account = client.register("poller" + i + "@example.com", PASSWORD);
+            targets.add(new Target(account, client.create(account)));
+        }
+        return targets;
+    }
+
+    private static Result run(ApiClient client, List<Target> targets, int pollers, Duration pollInterval,
+                              Duration warmUp, Duration duration, LoadStats stats, Resources resources)
+            throws InterruptedException {
+        LongAdder polls = new LongAdder();
+        LongAdder failures = new LongAdder();
+        long intervalNanos = pollInterval.toNanos();
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        Thread sampler = Thread.ofPlatform().daemon().name("resource-sampler").start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                resources.sample();
+                LockSupport.parkNanos(SAMPLE_INTERVAL_NANOS);
+            }
+        });
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < pollers; i++) {
+                Target target = targets.get(i % targets.size());
+                long firstPoll = start + ThreadLocalRandom.current().nextLong(intervalNanos);
+                executor.submit(() -> {
+                    for (long next = firstPoll; next < deadline; next += intervalNanos) {
+                        LockSupport.parkNanos(next - System.nanoTime());
+                        boolean measured = System.nanoTime() >= measureFrom;
+                        try {
+                            client.status(target.account(), target.proposal());
+                            if (measured) {
+                                polls.increment();
+                            }
+                        } catch (InterruptedException e) {
+                            return;
+                        } catch (Exception e) {
+                            if (measured) {
+                                failures.increment();
+                            }
+                        }
+                    }
+                });
+            }
+            Thread.sleep(Math.max(0, (measureFrom - System.nanoTime()) / 1_000_000));
+            stats.reset();
+            resources.reset();
+        } finally {
+            sampler.interrupt();
+        }
+        return new Result(polls.sum(), failures.sum());
+    }
+
+    /**
+     * Peak usage of the request threads and both connection pools, sampled every few
+     * milliseconds during the measured part of a run.
+     */
+    private static final class Resources {
+
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final ThreadPoolExecutor tomcat;
+        private final HikariDataSource jdbc;
+        private final Optional<PoolMetrics> r2dbc;
+
+        private volatile int busyTomcatThreads;
+        private volatile int jdbcConnections;
+        private volatile int r2dbcConnections;
+        private volatile int r2dbcPendingAcquires;
+
+        Resources(ConfigurableApplicationContext context) {
+            TomcatWebServer webServer = (TomcatWebServer) ((WebServerApplicationContext) context).getWebServer();
+            this.tomcat = (ThreadPoolExecutor) webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+            this.jdbc = context.getBean(HikariDataSource.class);
+            this.r2dbc = context.getBeanProvider(DatabaseClient.class).stream()
+                    .map(client -> (ConnectionPool) client.getConnectionFactory())
+                    .flatMap(pool -> pool.getMetrics().stream())
+                    .findFirst();
+        }
+
+        void sample() {
+            busyTomcatThreads = max(busyTomcatThreads, tomcat::getActiveCount);
+            jdbcConnections = max(jdbcConnections, () -> jdbc.getHikariPoolMXBean().getActiveConnections());
+            r2dbc.ifPresent(metrics -> {
+                r2dbcConnections = max(r2dbcConnections, metrics::acquiredSize);
+                r2dbcPendingAcquires = max(r2dbcPendingAcquires, metrics::pendingAcquireSize);
+            });
+        }
+
+        void reset() {
+            busyTomcatThreads = 0;
+            jdbcConnections = 0;
+            r2dbcConnections = 0;
+            r2dbcPendingAcquires = 0;
+            threads.resetPeakThreadCount();
+        }
+
+        void print(PrintStream out) {
+            out.printf("peak busy Tomcat threads %d (pool grew to %d), peak JDBC connections %d (pool %d), "
+                            + "peak R2DBC connections %d (pending acquires %d), peak JVM platform threads %d%n",
+                    busyTomcatThreads, tomcat.getLargestPoolSize(),
+                    jdbcConnections, jdbc.getHikariPoolMXBean().getTotalConnections(),
+                    r2dbcConnections, r2dbcPendingAcquires, threads.getPeakThreadCount());
+        }
+
+        private static int max(int peak, IntSupplier current) {
+            return Math.max(peak, current.getAsInt());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.romantic.proposal.loadtest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives the same closed-loop workload against the application twice — once on Tomcat's
+ * platform thread pool, once with {@code spring.threads.virtual.enabled=true} — and prints
+ * throughput and latency percentiles for each run.
+ *
+ * <p>Every simulated client loops create → respond → status until the run ends. Responding
+ * sends an email through {@link FakeSmtpServer}, whose artificial latency stands in for a
+ * real mail server, so the run shows how each threading model copes with blocking I/O.</p>
+ *
+ * <pre>
+ * mvn -Ploadtest verify -DskipTests -Dloadtest.main=com.romantic.proposal.loadtest.VirtualThreadLoadComparison \
+ *     -Dloadtest.clients=1000 -Dloadtest.duration=PT30S -Dloadtest.smtp-latency=PT0.05S
+ * </pre>
+ */
+public final class VirtualThreadLoadComparison {
+
+    private static final String PASSWORD = "load-test-password";
+
+    private VirtualThreadLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 1000);
+        int accounts = Math.min(clients, Integer.getInteger("loadtest.accounts", 50));
+        Duration warmUp = Duration.parse(System.getProperty("loadtest.warm-up", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        Duration smtpLatency = Duration.parse(System.getProperty("loadtest.smtp-latency", "PT0.05S"));
+
+        PrintStream report = System.out;
+        report.printf("%d clients over %d accounts, %s warm-up, %s measured, %s SMTP latency%n",
+                clients, accounts, warmUp, duration, smtpLatency);
+
+        for (String runMode : System.getProperty("loadtest.modes", "platform,virtual").split(",")) {
+            boolean virtual = runMode.trim().equals("virtual");
+            String mode = virtual ? "virtual threads" : "platform threads";
+            try (FakeSmtpServer smtp = FakeSmtpServer.start(smtpLatency);
+                 LoadTestApp app = LoadTestApp.start(virtual ? "virtual" : "platform", smtp,
+                         Map.of("spring.threads.virtual.enabled", virtual))) {
+                // The application still prints per-request diagnostics to stdout; keep them out of the report.
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                LoadStats stats = new LoadStats();
+                ApiClient client = new ApiClient(app.baseUrl(), stats);
+                List<ApiClient.Account> registered = register(client, accounts);
+
+                Result result = run(client, registered, clients, warmUp, duration, stats);
+                stats.stop();
+
+                System.setOut(report);
+                stats.print(report, mode, duration);
+                report.printf("journeys/s %.1f, failed journeys %d, emails delivered %d%n",
+                        result.journeys() / (duration.toNanos() / 1e9), result.failures(), smtp.messages());
+            } finally {
+                System.setOut(report);
+            }
+        }
+    }
+
+    private record Result(long journeys, long failures) {
+    }
+
+    private static List<ApiClient.Account> register(ApiClient client, int accounts) throws Exception {
+        List<ApiClient.Account> registered = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ApiClient.Account>> futures = new ArrayList<>();
+            for (int i = 0; i < accounts; i++) {
+                String email = "load" + i + "@example.com";
+                futures.add(executor.submit(() -> client.register(email, PASSWORD)));
+            }
+            for (var future : futures) {
+                registered.add(future.get());
+            }
+        }
+        return registered;
+    }
+
+    private static Result run(ApiClient client, List<ApiClient.Account> accounts, int clients,
+                              Duration warmUp, Duration duration, LoadStats stats) throws InterruptedException {
+        LongAdder journeys = new LongAdder();
+        LongAdder failures = new LongAdder();
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                ApiClient.Account account = accounts.get(i % accounts.size());
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        boolean measured = System.nanoTime() >= measureFrom;
+                        try {
+                            ApiClient.CreatedProposal proposal = client.create(account);
+                            client.respond(proposal, "YES");
+                            client.status(account, proposal);
+                            if (measured) {
+                                journeys.increment();
+                            }
+                        } catch (InterruptedException e) {
+                            return;
+                        } catch (Exception e) {
+                            if (measured) {
+                                failures.increment();
+                            }
+                        }
+                    }
+                });
+            }
+            Thread.sleep(Math.max(0, (measureFrom - System.nanoTime()) / 1_000_000));
+            stats.reset();
+        }
+        return new Result(journeys.sum(), failures.sum());
+    }
+}
@@ -0,0 +1,83 @@
+package com.romantic.proposal.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for {@code @Async} work.
+ *
+ * <p>With {@code spring.threads.virtual.enabled=true} Spring Boot already runs Tomcat requests,
+ * the default {@code @Async} executor and {@code @Scheduled} tasks on virtual threads. Email
+ * dispatch is the exception: Jakarta Mail's {@code SMTPTransport} does its socket I/O inside
+ * {@code synchronized} methods, which pins the carrier thread for the whole SMTP conversation
+ * (on a single-CPU dyno, the only carrier). Emails are therefore handed to a small pool of
+ * platform threads, so the responding request no longer waits for SMTP and never pins.</p>
+ *
+ * <p>With platform threads the mail executor runs inline, exactly as before.</p>
+ *
+ * <p>Reminders are the other exception: they are sent from a scheduled tick, and inline
+ * sends would hold the shared scheduler thread for the whole SMTP conversation of every
+ * reminder. They always go to their own bounded pool, and ProposalReminderScheduler claims
+ * no more per tick than its queue can take.</p>
+ *
+ * <p>Declaring any executor bean makes Spring Boot skip its own {@code applicationTaskExecutor},
+ * which serves unqualified {@code @Async} methods and Spring MVC async requests (the streamed
+ * exports). It is therefore defined here the way Boot would: a bounded pool configured by
+ * {@code spring.task.execution.*}, or virtual threads when they are enabled.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAsync
+public class AsyncConfig {
+
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                     ObjectProvider<ThreadPoolTaskExecutorBuilder> threadPoolBuilder,
+                                                     ObjectProvider<SimpleAsyncTaskExecutorBuilder> virtualThreadBuilder) {
+        return virtualThreads ? virtualThreadBuilder.getObject().build() : threadPoolBuilder.getObject().build();
+    }
+
+    @Bean
+    public TaskExecutor mailTaskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                         @Value("${app.mail.max-concurrent-sends:4}") int maxConcurrentSends,
+                                         @Value("${app.mail.queue-capacity:1000}") int queueCapacity) {
+        if (!virtualThreads) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mail-");
+        executor.setCorePoolSize(maxConcurrentSends);
+        executor.setMaxPoolSize(maxConcurrentSends);
+        // A full queue rejects the send; ProposalService logs it and the response still succeeds
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reminderTaskExecutor(@Value("${app.reminders.max-concurrent-sends:2}") int maxConcurrentSends,
+                                                       @Value("${app.reminders.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("reminder-");
+        executor.setCorePoolSize(maxConcurrentSends);
+        executor.setMaxPoolSize(maxConcurrentSends);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.romantic.proposal.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Keeps beans that the first request never touches out of the startup path.
+ *
+ * <p>Beans listed in {@code app.startup.lazy-beans} are switched to lazy initialization, so
+ * they are created on first use instead of during context refresh. Injection points for
+ * them must be {@code @Lazy} as well, otherwise the dependent bean pulls them in eagerly.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyStartupBeans(Environment environment) {
+        String[] beanNames = environment.getProperty("app.startup.lazy-beans", String[].class, new String[0]);
+        return beanFactory -> {
+            for (String beanName : beanNames) {
+                if (beanFactory.containsBeanDefinition(beanName)) {
+                    beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+                }
+            }
+        };
+    }
+}
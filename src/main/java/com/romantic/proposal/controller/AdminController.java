@@ -0,0 +1,80 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.dto.UserImportResult;
+import com.romantic.proposal.dto.UserImportSummary;
+import com.romantic.proposal.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Operator endpoints, open only to requests carrying the admin token (see AdminTokenFilter).
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    static final String TEXT_CSV = "text/csv";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams a CSV or NDJSON upload into the users table and streams one NDJSON result per
+     * row back as each batch completes, followed by a summary line. Neither side is ever
+     * held in memory, so the file size is unbounded.
+     */
+    @PostMapping(value = "/users/import",
+            consumes = {TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset))) {
+            UserImportSummary summary = userImportService.importUsers(reader, format, batch -> writeBatch(out, batch));
+            writeLine(out, summary);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private void writeBatch(OutputStream out, List<UserImportResult> batch) {
+        try {
+            for (UserImportResult result : batch) {
+                writeLine(out, result);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+}
@@ -1,19 +1,24 @@
 package com.romantic.proposal.controller;
 
+import com.romantic.proposal.datasource.ReadYourWrites;
 import com.romantic.proposal.dto.LoginRequest;
 import com.romantic.proposal.dto.LoginResponse;
 import com.romantic.proposal.dto.RegisterRequest;
+import com.romantic.proposal.dto.RegisterResponse;
 import com.romantic.proposal.entity.User;
+import com.romantic.proposal.exception.InvalidCredentialsException;
 import com.romantic.proposal.repository.UserRepository;
 import com.romantic.proposal.security.JwtUtil;
+import com.romantic.proposal.service.AuthService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -22,102 +27,51 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ReadYourWrites readYourWrites;
+    private final AuthService authService;
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
-        try {
-            System.out.println("📝 Registration request for: " + request.getEmail());
-
-            // Check if user already exists
-            if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new ErrorResponse("Email already registered"));
-            }
-
-            // Create new user
-            User user = new User();
-            user.setEmail(request.getEmail());
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-            user.setName(request.getName());
-
-            User savedUser = userRepository.save(user);
-            System.out.println("✅ User saved: " + savedUser.getEmail());
-
-            // Generate JWT token using JwtUtil
-            String token = jwtUtil.generateToken(savedUser.getEmail());
-            System.out.println("✅ Token generated for registration");
-
-            return ResponseEntity.ok(new LoginResponse(
-                    savedUser.getEmail(),
-                    token,
-                    savedUser.getId().toString(),  // Convert UUID to String
-                    "Registration successful"
-            ));
-
-        } catch (Exception e) {
-            System.err.println("❌ Registration error: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ErrorResponse("Registration failed: " + e.getMessage()));
-        }
+    public ResponseEntity<LoginResponse> register(@RequestBody RegisterRequest request) {
+        log.debug("📝 Registration request for: {}", request.getEmail());
+
+        // Malformed or already registered addresses are reported by GlobalExceptionHandler (400 / 409)
+        RegisterResponse registered = authService.register(request);
+        log.debug("✅ User saved: {}", registered.email());
+
+        // Generate JWT token using JwtUtil
+        String token = jwtUtil.generateToken(registered.email());
+        log.debug("✅ Token generated for registration");
+
+        return ResponseEntity.ok(new LoginResponse(
+                registered.email(),
+                token,
+                registered.userId(),
+                "Registration successful"
+        ));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
-        try {
-            System.out.println("🔐 Login request for: " + request.getEmail());
-
-            // Find user by email
-            Optional<User> userOptional = userRepository.findByEmail(request.getEmail());
-
-            if (userOptional.isEmpty()) {
-                System.out.println("❌ User not found: " + request.getEmail());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(new ErrorResponse("Invalid email or password"));
-            }
-
-            User user = userOptional.get();
-
-            // Verify password
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                System.out.println("❌ Invalid password for: " + request.getEmail());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(new ErrorResponse("Invalid email or password"));
-            }
-
-            // Generate JWT token using JwtUtil
-            String token = jwtUtil.generateToken(user.getEmail());
-            System.out.println("✅ Login successful, token generated for: " + user.getEmail());
-
-            return ResponseEntity.ok(new LoginResponse(
-                    user.getEmail(),
-                    token,
-                    user.getId().toString(),
-                    "Login successful"
-            ));
-
-        } catch (Exception e) {
-            System.err.println("❌ Login error: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ErrorResponse("Login failed: " + e.getMessage()));
-        }
-    }
-
-    // Inner class for error response
-    static class ErrorResponse {
-        private String message;
-
-        public ErrorResponse(String message) {
-            this.message = message;
-        }
-
-        public String getMessage() {
-            return message;
-        }
-
-        public void setMessage(String message) {
-            this.message = message;
-        }
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+        log.debug("🔐 Login request for: {}", request.getEmail());
+
+        // Find user by email (stored normalized, so the lookup is case-insensitive)
+        String email = AuthService.normalizeEmail(request.getEmail());
+        Optional<User> userOptional = readYourWrites.read(email, () -> userRepository.findByEmail(email));
+
+        // Unknown address and wrong password look the same to the client (401 via GlobalExceptionHandler)
+        User user = userOptional
+                .filter(candidate -> passwordEncoder.matches(request.getPassword(), candidate.getPassword()))
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
+
+        // Generate JWT token using JwtUtil
+        String token = jwtUtil.generateToken(user.getEmail());
+        log.debug("✅ Login successful, token generated for: {}", user.getEmail());
+
+        return ResponseEntity.ok(new LoginResponse(
+                user.getEmail(),
+                token,
+                user.getId().toString(),
+                "Login successful"
+        ));
     }
-}
\ No newline at end of file
+}
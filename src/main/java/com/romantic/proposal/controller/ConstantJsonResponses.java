@@ -0,0 +1,42 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.dto.RespondResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Response bodies that never change, serialized once at startup with the application's
+ * ObjectMapper. The whole (immutable) ResponseEntity is reused, so a constant response
+ * costs neither Jackson nor a single allocation per request.
+ */
+@Component
+class ConstantJsonResponses {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Object, ResponseEntity<byte[]>> responses;
+
+    ConstantJsonResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.responses = Map.of(RespondResponse.RECORDED, serialize(RespondResponse.RECORDED));
+    }
+
+    ResponseEntity<byte[]> ok(Object body) {
+        ResponseEntity<byte[]> response = responses.get(body);
+        // Not a known constant: serialize it like any other response
+        return response != null ? response : serialize(body);
+    }
+
+    private ResponseEntity<byte[]> serialize(Object body) {
+        try {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.romantic.proposal.controller;
+
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.security.JwtUtil;
+import com.romantic.proposal.service.AuthService;
+import com.romantic.proposal.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+    private final AuthService authService;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * Downloads the caller's proposals and notifications ({@code format=ndjson} or {@code csv}).
+     * The body is written on an async thread while rows are read; gzip is applied by the
+     * server's response compression.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        ExportService.Format exportFormat = ExportService.Format.of(format);
+        String email = jwtUtil.extractEmail(authHeader.replace("Bearer ", ""));
+        User user = authService.getUserByEmail(email);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("proposal-export." + exportFormat.extension())
+                        .build()
+                        .toString())
+                .body(out -> exportService.export(user, exportFormat, out));
+    }
+}
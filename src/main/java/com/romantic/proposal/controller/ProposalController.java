@@ -2,21 +2,20 @@ package com.romantic.proposal.controller;
 
 import com.romantic.proposal.dto.ProposalResponse;
 import com.romantic.proposal.dto.RespondRequest;
-import com.romantic.proposal.dto.StatusResponse;
+import com.romantic.proposal.dto.RespondResponse;
 import com.romantic.proposal.entity.User;
 import com.romantic.proposal.service.AuthService;
 import com.romantic.proposal.service.ProposalService;
 import com.romantic.proposal.security.JwtUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-import java.util.UUID;
-
+@Slf4j
 @RestController
 @RequestMapping("/api/proposal")
 @RequiredArgsConstructor
@@ -25,6 +24,7 @@ public class ProposalController {
     private final ProposalService proposalService;
     private final AuthService authService;
     private final JwtUtil jwtUtil;
+    private final ConstantJsonResponses constantJsonResponses;
 
     // Frontend URL - CHANGE THIS to match your frontend location!
     @Value("${frontend.url:http://127.0.0.1:5500/index.html}")
@@ -40,34 +40,27 @@ public class ProposalController {
         // Pass frontend URL to service
         ProposalResponse response = proposalService.createProposal(user, frontendUrl);
 
-        System.out.println("✅ Created proposal with link: " + response.getShareableLink());
+        log.debug("✅ Created proposal with link: {}", response.shareableLink());
 
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @PostMapping("/{uniqueToken}/respond")
-    public ResponseEntity<Map<String, String>> respondToProposal(
+    public ResponseEntity<byte[]> respondToProposal(
             @PathVariable String uniqueToken,
             @Valid @RequestBody RespondRequest request) {
 
-        Map<String, String> response = proposalService.respondToProposal(uniqueToken, request);
+        RespondResponse response = proposalService.respondToProposal(uniqueToken, request);
 
-        System.out.println("✅ Proposal responded: " + request.getResponse());
+        log.debug("✅ Proposal responded: {}", request.getResponse());
 
-        return ResponseEntity.ok(response);
+        return constantJsonResponses.ok(response);
     }
 
-    @GetMapping("/{proposalId}/status")
-    public ResponseEntity<StatusResponse> getProposalStatus(
-            @PathVariable String proposalId,
-            @RequestHeader("Authorization") String authHeader) {
-
-        String email = extractEmailFromToken(authHeader);
-        User user = authService.getUserByEmail(email);
-
-        StatusResponse response = proposalService.getProposalStatus(UUID.fromString(proposalId), user);
-
-        return ResponseEntity.ok(response);
+    @PostMapping("/{uniqueToken}/view")
+    public ResponseEntity<Void> recordView(@PathVariable String uniqueToken) {
+        proposalService.recordView(uniqueToken);
+        return ResponseEntity.noContent().build();
     }
 
     private String extractEmailFromToken(String authHeader) {
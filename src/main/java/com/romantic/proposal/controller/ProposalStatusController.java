@@ -0,0 +1,59 @@
+package com.romantic.proposal.controller;
+
+import com.romantic.proposal.dto.StatusResponse;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.security.JwtUtil;
+import com.romantic.proposal.service.AuthService;
+import com.romantic.proposal.service.ProposalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * The status poll on the JPA stack: a Tomcat thread and a pooled JDBC connection for the
+ * whole request. Replaced by {@link ReactiveProposalStatusController} when
+ * {@code app.reactive-reads.enabled} is set.
+ */
+@RestController
+@RequestMapping("/api/proposal")
+@ConditionalOnProperty(name = "app.reactive-reads.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProposalStatusController {
+
+    private final ProposalService proposalService;
+    private final AuthService authService;
+    private final JwtUtil jwtUtil;
+
+    // Per-user data that can change at any poll: the browser may keep it but must revalidate
+    static final CacheControl STATUS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    @GetMapping("/{proposalId}/status")
+    public ResponseEntity<StatusResponse> getProposalStatus(
+            @PathVariable String proposalId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        String email = jwtUtil.extractEmail(authHeader.replace("Bearer ", ""));
+        User user = authService.getUserByEmail(email);
+
+        StatusResponse response = proposalService.getProposalStatus(UUID.fromString(proposalId), user);
+
+        // Spring answers a matching If-None-Match with an empty 304 instead of serializing the body
+        return ResponseEntity.ok()
+                .eTag(statusETag(response))
+                .cacheControl(STATUS_CACHE_CONTROL)
+                .body(response);
+    }
+
+    /**
+     * Strong validator for the status body. It only changes when the proposal is answered
+     * (answeredAt is set once), an unanswered proposal expires, or its link is opened.
+     */
+    static String statusETag(StatusResponse status) {
+        String answered = status.answeredAt() == null ? "open" : status.answeredAt().toString();
+        return status.proposalId() + "-" + answered + (status.expired() ? "-expired" : "") + "-v" + status.viewCount();
+    }
+}
@@ -0,0 +1,49 @@
+package com.romantic.proposal.controller;
+
+import com.romantic.proposal.dto.StatusResponse;
+import com.romantic.proposal.security.JwtUtil;
+import com.romantic.proposal.service.ReactiveProposalReadService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * The status poll on the R2DBC stack, same route and same response as
+ * {@link ProposalStatusController}. Spring MVC starts async processing on the returned
+ * {@link Mono} and hands the Tomcat thread back right away; on PostgreSQL the query runs
+ * on the driver's event loop and the response is written on an async dispatch once the row
+ * arrives. (r2dbc-h2 executes inline, so local runs keep the thread for the query itself.)
+ */
+@RestController
+@RequestMapping("/api/proposal")
+@ConditionalOnProperty(name = "app.reactive-reads.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProposalStatusController {
+
+    private final ReactiveProposalReadService reactiveProposalReadService;
+    private final JwtUtil jwtUtil;
+
+    @GetMapping("/{proposalId}/status")
+    public Mono<ResponseEntity<StatusResponse>> getProposalStatus(
+            @PathVariable String proposalId,
+            @RequestHeader("Authorization") String authHeader,
+            HttpServletResponse servletResponse) {
+
+        String email = jwtUtil.extractEmail(authHeader.replace("Bearer ", ""));
+
+        // Set on this first dispatch: Spring Security writes its no-store Cache-Control when
+        // the dispatch ends unless one is already there, and the entity's would come too late
+        servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, ProposalStatusController.STATUS_CACHE_CONTROL.getHeaderValue());
+
+        return reactiveProposalReadService.getProposalStatus(UUID.fromString(proposalId), email)
+                .map(response -> ResponseEntity.ok()
+                        .eTag(ProposalStatusController.statusETag(response))
+                        .body(response));
+    }
+}
@@ -0,0 +1,61 @@
+package com.romantic.proposal.datasource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Non-blocking connections for the polling reads, enabled by {@code app.reactive-reads.enabled}.
+ *
+ * <p>Built from the regular {@code spring.r2dbc.*} properties (pool sizing under
+ * {@code spring.r2dbc.pool.*}) and pointed at the primary, so a poll always sees the
+ * writer's latest commit. The pool is deliberately not a {@link ConnectionFactory} bean:
+ * Boot would take that as the application's database and back off the JDBC
+ * {@code DataSource} that JPA, Flyway and every write depend on. Only the
+ * {@link DatabaseClient} is published.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.reactive-reads.enabled", havingValue = "true")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactiveReadConfig {
+
+    private final ConnectionPool pool;
+
+    public ReactiveReadConfig(R2dbcProperties properties) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        R2dbcProperties.Pool pool = properties.getPool();
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-reads")
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime());
+        if (pool.getMaxAcquireTime() != null) {
+            builder.maxAcquireTime(pool.getMaxAcquireTime());
+        }
+        if (pool.getValidationQuery() != null) {
+            builder.validationQuery(pool.getValidationQuery());
+        }
+        this.pool = new ConnectionPool(builder.build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveReadClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    void close() {
+        pool.dispose();
+    }
+}
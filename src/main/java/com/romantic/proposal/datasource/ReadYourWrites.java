@@ -0,0 +1,80 @@
+package com.romantic.proposal.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Read-your-writes consistency on top of replica routing.
+ *
+ * <p>Writes are recorded against a key (the user's email) when their transaction commits.
+ * Reads for that key within the window (the configured minimum plus the replica's current
+ * lag) are routed to the primary, so a user polling right after creating or answering a
+ * proposal never sees the replica's older state. Without a replica this is a no-op.</p>
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    @Value("${app.datasource.replica.read-your-writes-window:PT5S}")
+    private Duration window;
+
+    public ReadYourWrites(ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        this.lagMonitor = lagMonitor.getIfAvailable();
+    }
+
+    public void recordWrite(String key) {
+        if (lagMonitor == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(key);
+                }
+            });
+        } else {
+            record(key);
+        }
+    }
+
+    /**
+     * Runs a read, on the primary if {@code key} was written within the window.
+     */
+    public <T> T read(String key, Supplier<T> read) {
+        return recentlyWritten(key) ? ReplicaRoutingDataSource.onPrimary(read) : read.get();
+    }
+
+    private boolean recentlyWritten(String key) {
+        if (lagMonitor == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(key);
+        return writtenAt != null && System.nanoTime() - writtenAt < currentWindow();
+    }
+
+    private void record(String key) {
+        long now = System.nanoTime();
+        lastWrites.put(key, now);
+        if (lastWrites.size() > PRUNE_THRESHOLD) {
+            long window = currentWindow();
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= window);
+        }
+    }
+
+    private long currentWindow() {
+        return window.plus(lagMonitor.getLag()).toNanos();
+    }
+}
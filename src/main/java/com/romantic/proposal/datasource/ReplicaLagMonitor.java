@@ -0,0 +1,101 @@
+package com.romantic.proposal.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures how far the replica is behind the primary.
+ *
+ * <p>While the lag exceeds {@code app.datasource.replica.max-lag}, or the replica cannot be
+ * reached, read-only work is routed to the primary. The measured lag also widens the
+ * read-your-writes window in {@link ReadYourWrites}.</p>
+ *
+ * <p>The check runs every {@code app.datasource.replica.lag-check-interval} on a thread of
+ * its own, so a busy {@code @Scheduled} job cannot delay it. A reading is only trusted for
+ * {@value #STALE_AFTER_INTERVALS} intervals: if no check has succeeded for longer than that
+ * (the check hangs or keeps failing), the replica counts as unusable.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final int STALE_AFTER_INTERVALS = 3;
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final long staleAfterNanos;
+
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean replicaUsable = true;
+    private volatile long lastCheckedNanos;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.staleAfterNanos = checkInterval.multipliedBy(STALE_AFTER_INTERVALS).toNanos();
+        // No reading yet: stale until the first check succeeds
+        this.lastCheckedNanos = System.nanoTime() - staleAfterNanos - 1;
+    }
+
+    /**
+     * Takes a first reading before the application serves requests, then keeps checking.
+     */
+    public void start() {
+        checkLag();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkLag, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void checkLag() {
+        boolean usable;
+        try {
+            // Without a lag query (e.g. local H2 stand-ins) the replica is assumed current
+            Double seconds = lagQuery.isBlank() ? null : replica.queryForObject(lagQuery, Double.class);
+            lag = seconds == null ? Duration.ZERO : Duration.ofMillis(Math.round(seconds * 1000));
+            usable = lag.compareTo(maxLag) <= 0;
+            lastCheckedNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            // Not just DataAccessException: anything escaping would cancel the scheduled checks
+            log.warn("⚠️ Replica lag check failed: {}", e.getMessage());
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("✅ Replica caught up (lag {}), routing reads to the replica again", lag);
+            } else {
+                log.warn("⚠️ Replica unavailable or lagging (lag {}), routing reads to the primary", lag);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.nanoTime() - lastCheckedNanos <= staleAfterNanos;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+}
@@ -0,0 +1,64 @@
+package com.romantic.proposal.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replica pool and
+ * everything else to the primary.
+ *
+ * <p>The lookup happens when a connection is first needed, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction
+ * manager asks for a connection before the read-only flag is bound to the thread, and the
+ * proxy defers the real lookup until the first statement.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(Object primary, Object replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Runs {@code read} with read-only transactions routed to the primary, for callers that
+     * must see their own recent writes.
+     */
+    static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread is inside {@link #onPrimary}.
+     */
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean replicaRead = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && PRIMARY_PINNED.get() == null
+                && lagMonitor.isReplicaUsable();
+        return replicaRead ? Route.REPLICA : Route.PRIMARY;
+    }
+}
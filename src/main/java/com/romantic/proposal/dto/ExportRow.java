@@ -0,0 +1,17 @@
+package com.romantic.proposal.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One row of a user's data export. As NDJSON each row carries a {@code type} property
+ * ({@code proposal} or {@code notification}); as CSV both kinds share one set of columns.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+public sealed interface ExportRow permits ProposalExportRow, NotificationExportRow {
+
+    String[] CSV_HEADER = {"type", "id", "proposal_id", "shareable_link", "response", "message", "is_read",
+            "created_at", "expires_at", "responded_at", "view_count"};
+
+    /** Values in {@link #CSV_HEADER} order; {@code null} for columns the row kind does not have. */
+    Object[] csvValues();
+}
@@ -1,17 +1,12 @@
 package com.romantic.proposal.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
 
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
 @Builder
-public class LoginResponse {
-    private String email;
-    private String token;
-    private String userId;
-    private String message;
-}
\ No newline at end of file
+public record LoginResponse(
+        String email,
+        String token,
+        String userId,
+        String message
+) {
+}
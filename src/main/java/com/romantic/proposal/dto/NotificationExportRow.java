@@ -0,0 +1,21 @@
+package com.romantic.proposal.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonTypeName("notification")
+public record NotificationExportRow(
+        UUID id,
+        UUID proposalId,
+        String message,
+        Boolean read,
+        LocalDateTime createdAt
+) implements ExportRow {
+
+    @Override
+    public Object[] csvValues() {
+        return new Object[]{"notification", id, proposalId, null, null, message, read, createdAt, null, null, null};
+    }
+}
@@ -0,0 +1,24 @@
+package com.romantic.proposal.dto;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.romantic.proposal.entity.Proposal;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonTypeName("proposal")
+public record ProposalExportRow(
+        UUID id,
+        String shareableLink,
+        Proposal.ProposalResponse response,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt,
+        LocalDateTime respondedAt,
+        long viewCount
+) implements ExportRow {
+
+    @Override
+    public Object[] csvValues() {
+        return new Object[]{"proposal", id, null, shareableLink, response, null, null, createdAt, expiresAt, respondedAt, viewCount};
+    }
+}
@@ -0,0 +1,8 @@
+package com.romantic.proposal.dto;
+
+public record RegisterResponse(
+        String userId,
+        String email,
+        String message
+) {
+}
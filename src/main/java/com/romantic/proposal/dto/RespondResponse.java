@@ -0,0 +1,10 @@
+package com.romantic.proposal.dto;
+
+public record RespondResponse(
+        String message,
+        String status
+) {
+
+    // The only body the respond endpoint ever returns; served pre-serialized
+    public static final RespondResponse RECORDED = new RespondResponse("Response recorded successfully", "success");
+}
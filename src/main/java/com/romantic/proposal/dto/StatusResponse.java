@@ -1,20 +1,17 @@
 package com.romantic.proposal.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
-@Data
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class StatusResponse {
-    private boolean answered;
-    private String response;
-    private String notification;
-    private String proposalId;
-    private LocalDateTime answeredAt;
-}
\ No newline at end of file
+public record StatusResponse(
+        boolean answered,
+        boolean expired,
+        String response,
+        String notification,
+        String proposalId,
+        LocalDateTime answeredAt,
+        long viewCount
+) {
+}
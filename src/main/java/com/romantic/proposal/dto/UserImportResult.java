@@ -0,0 +1,16 @@
+package com.romantic.proposal.dto;
+
+/**
+ * Outcome of one row of a bulk user import, streamed back as one NDJSON line.
+ *
+ * @param line   1-based line number in the uploaded file
+ * @param status {@code CREATED}, {@code DUPLICATE}, {@code INVALID} or {@code FAILED}
+ * @param error  why the row was rejected, {@code null} otherwise
+ */
+public record UserImportResult(
+        long line,
+        String email,
+        String status,
+        String error
+) {
+}
@@ -0,0 +1,13 @@
+package com.romantic.proposal.dto;
+
+/**
+ * Totals for a bulk user import; the last line of the NDJSON response.
+ */
+public record UserImportSummary(
+        long rows,
+        long created,
+        long duplicates,
+        long invalid,
+        long failed
+) {
+}
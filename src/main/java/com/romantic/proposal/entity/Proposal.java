@@ -3,27 +3,44 @@ package com.romantic.proposal.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "proposals")
-@Data
+@NamedEntityGraph(name = Proposal.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "proposals")
+@NaturalIdCache(region = "proposals-by-token")
+@Getter
+@Setter
+@ToString
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Proposal {
 
+    // Fetch plan for use cases that read the owner (e.g. mailing them an answer)
+    public static final String WITH_USER = "Proposal.withUser";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @NaturalId
     @Column(name = "unique_token", unique = true, nullable = false)
     private String uniqueToken;
 
@@ -40,12 +57,55 @@ public class Proposal {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    // Due time of the owner's "still no answer" email; cleared once claimed or answered (see ProposalReminderScheduler)
+    @Column(name = "next_reminder_at")
+    private LocalDateTime nextReminderAt;
+
+    // Flushed counts only (see ProposalViewCounter); entity inserts and updates never write it
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    private long viewCount;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
 
+    /**
+     * An unanswered proposal past its expiry can no longer be responded to.
+     * Proposals without an expiry (created before expiry existed) never expire.
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return isExpired(response, expiresAt, now);
+    }
+
+    /**
+     * {@link #isExpired(LocalDateTime)} for reads that project the columns instead of loading the entity.
+     */
+    public static boolean isExpired(ProposalResponse response, LocalDateTime expiresAt, LocalDateTime now) {
+        return response == null && expiresAt != null && now.isAfter(expiresAt);
+    }
+
     public enum ProposalResponse {
         YES, NO
     }
-}
\ No newline at end of file
+
+    /**
+     * Equal by id alone, so comparing or hashing never initializes the lazy user, and a
+     * proxy equals its target. The hash is constant because the id is assigned on persist.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Proposal other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Proposal.class.hashCode();
+    }
+}
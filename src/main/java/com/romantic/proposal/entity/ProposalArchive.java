@@ -0,0 +1,60 @@
+package com.romantic.proposal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Expired, never-answered proposals moved out of {@code proposals} by the retention sweeper.
+ * Kept free of foreign keys so archiving never blocks on, or is blocked by, the live tables.
+ */
+@Entity
+@Table(name = "proposal_archive")
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProposalArchive {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "unique_token", nullable = false)
+    private String uniqueToken;
+
+    @Column(name = "shareable_link", nullable = false, length = 500)
+    private String shareableLink;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ProposalArchive other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return ProposalArchive.class.hashCode();
+    }
+}
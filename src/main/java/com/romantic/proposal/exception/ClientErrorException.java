@@ -0,0 +1,16 @@
+package com.romantic.proposal.exception;
+
+/**
+ * Base class for the domain exceptions that end in a 4xx response.
+ *
+ * <p>These are thrown for expected client mistakes (bad tokens, bad logins), often in bulk
+ * by bots, and are always translated by {@link GlobalExceptionHandler}. Nothing ever reads
+ * their stack trace, so it is never captured: constructing one costs about as much as any
+ * other small object.</p>
+ */
+public abstract class ClientErrorException extends RuntimeException {
+
+    protected ClientErrorException(String message) {
+        super(message, null, false, false);
+    }
+}
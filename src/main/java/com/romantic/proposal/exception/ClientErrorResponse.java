@@ -0,0 +1,12 @@
+package com.romantic.proposal.exception;
+
+/**
+ * Body of a 4xx response. Unlike {@link ErrorResponse} it carries nothing request-specific,
+ * so each distinct one is serialized once and then replayed byte for byte.
+ */
+public record ClientErrorResponse(
+        int status,
+        String error,
+        String message
+) {
+}
@@ -0,0 +1,60 @@
+package com.romantic.proposal.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized 4xx responses, keyed by status and message. Domain exceptions use a
+ * handful of fixed messages, so after the first occurrence of each, answering a client
+ * error costs neither Jackson nor an allocation beyond the map lookup key.
+ *
+ * <p>The cache is bounded: a message that embeds client input (an unknown export format,
+ * say) could otherwise grow it without limit, so once full, further bodies are serialized
+ * per response instead.</p>
+ */
+@Component
+class ClientErrorResponses {
+
+    static final int MAX_CACHED = 256;
+
+    private final ObjectMapper objectMapper;
+    private final Map<Key, ResponseEntity<byte[]>> responses = new ConcurrentHashMap<>();
+
+    ClientErrorResponses(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    ResponseEntity<byte[]> of(HttpStatus status, String message) {
+        Key key = new Key(status, message);
+        ResponseEntity<byte[]> response = responses.get(key);
+        if (response != null) {
+            return response;
+        }
+        response = serialize(status, message);
+        if (responses.size() < MAX_CACHED) {
+            responses.putIfAbsent(key, response);
+        }
+        return response;
+    }
+
+    private ResponseEntity<byte[]> serialize(HttpStatus status, String message) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                    new ClientErrorResponse(status.value(), status.getReasonPhrase(), message));
+            return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(HttpStatus status, String message) {
+    }
+}
@@ -1,20 +1,12 @@
 package com.romantic.proposal.exception;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
 import java.time.LocalDateTime;
 
-@Data
-@AllArgsConstructor
-@NoArgsConstructor
-public class ErrorResponse {
-
-    private LocalDateTime timeStamp;
-    private int status;
-    private String error;
-    private String message;
-    private String path;
-
+public record ErrorResponse(
+        LocalDateTime timeStamp,
+        int status,
+        String error,
+        String message,
+        String path
+) {
 }
@@ -1,5 +1,7 @@
 package com.romantic.proposal.exception;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,73 +12,81 @@ import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Translates exceptions into JSON error responses.
+ *
+ * <p>Client errors ({@link ClientErrorException}) arrive in bulk from bots probing tokens
+ * and passwords, so their path is kept cheap: the exceptions carry no stack trace, the
+ * bodies are replayed pre-serialized by {@link ClientErrorResponses}, and only one in
+ * {@code app.errors.client-log-sample-rate} of them is logged, as a single line.</p>
+ */
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ClientErrorResponses clientErrorResponses;
+
+    @Value("${app.errors.client-log-sample-rate:100}")
+    private int clientLogSampleRate;
+
+    GlobalExceptionHandler(ClientErrorResponses clientErrorResponses) {
+        this.clientErrorResponses = clientErrorResponses;
+    }
+
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleUserNotFoundException(
+    public ResponseEntity<byte[]> handleUserNotFoundException(
             UserNotFoundException ex, WebRequest request) {
-        ErrorResponse error = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                "Not Found",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+        return clientError(HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(ProposalNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleProposalNotFoundException(
+    public ResponseEntity<byte[]> handleProposalNotFoundException(
             ProposalNotFoundException ex, WebRequest request) {
-        ErrorResponse error = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                "Not Found",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+        return clientError(HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(InvalidCredentialsException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(
+    public ResponseEntity<byte[]> handleInvalidCredentialsException(
             InvalidCredentialsException ex, WebRequest request) {
-        ErrorResponse error = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.UNAUTHORIZED.value(),
-                "Unauthorized",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-        return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
+        return clientError(HttpStatus.UNAUTHORIZED, ex, request);
+    }
+
+    @ExceptionHandler(InvalidEmailException.class)
+    public ResponseEntity<byte[]> handleInvalidEmailException(
+            InvalidEmailException ex, WebRequest request) {
+        return clientError(HttpStatus.BAD_REQUEST, ex, request);
     }
 
     @ExceptionHandler(ProposalAlreadyAnsweredException.class)
-    public ResponseEntity<ErrorResponse> handleProposalAlreadyAnsweredException(
+    public ResponseEntity<byte[]> handleProposalAlreadyAnsweredException(
             ProposalAlreadyAnsweredException ex, WebRequest request) {
-        ErrorResponse error = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.CONFLICT.value(),
-                "Conflict",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+        return clientError(HttpStatus.CONFLICT, ex, request);
+    }
+
+    @ExceptionHandler(ProposalExpiredException.class)
+    public ResponseEntity<byte[]> handleProposalExpiredException(
+            ProposalExpiredException ex, WebRequest request) {
+        return clientError(HttpStatus.GONE, ex, request);
     }
 
     @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleUserAlreadyExistsException(
+    public ResponseEntity<byte[]> handleUserAlreadyExistsException(
             UserAlreadyExistsException ex, WebRequest request) {
-        ErrorResponse error = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.CONFLICT.value(),
-                "Conflict",
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+        return clientError(HttpStatus.CONFLICT, ex, request);
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<byte[]> handleInvalidImportFileException(
+            InvalidImportFileException ex, WebRequest request) {
+        return clientError(HttpStatus.BAD_REQUEST, ex, request);
+    }
+
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<byte[]> handleUnsupportedExportFormatException(
+            UnsupportedExportFormatException ex, WebRequest request) {
+        return clientError(HttpStatus.BAD_REQUEST, ex, request);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -94,13 +104,23 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex, WebRequest request) {
+        String path = request.getDescription(false).replace("uri=", "");
+        log.error("❌ Unhandled exception on {}", path, ex);
         ErrorResponse error = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 "Internal Server Error",
                 ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
+                path
         );
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private ResponseEntity<byte[]> clientError(HttpStatus status, ClientErrorException ex, WebRequest request) {
+        if (clientLogSampleRate > 0 && ThreadLocalRandom.current().nextInt(clientLogSampleRate) == 0) {
+            log.info("⚠️ {} {}: {} [{}, sampled 1/{}]", status.value(), status.getReasonPhrase(),
+                    ex.getMessage(), request.getDescription(false).replace("uri=", ""), clientLogSampleRate);
+        }
+        return clientErrorResponses.of(status, ex.getMessage());
+    }
 }
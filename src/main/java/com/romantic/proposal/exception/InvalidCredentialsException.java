@@ -1,6 +1,6 @@
 package com.romantic.proposal.exception;
 
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends ClientErrorException {
     public InvalidCredentialsException(String message) {
         super(message);
     }
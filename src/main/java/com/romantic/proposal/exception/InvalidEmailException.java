@@ -0,0 +1,7 @@
+package com.romantic.proposal.exception;
+
+public class InvalidEmailException extends ClientErrorException {
+    public InvalidEmailException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.romantic.proposal.exception;
+
+public class InvalidImportFileException extends ClientErrorException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.romantic.proposal.exception;
 
-public class ProposalAlreadyAnsweredException extends RuntimeException {
+public class ProposalAlreadyAnsweredException extends ClientErrorException {
     public ProposalAlreadyAnsweredException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package com.romantic.proposal.exception;
+
+public class ProposalExpiredException extends ClientErrorException {
+    public ProposalExpiredException(String message) {
+        super(message);
+    }
+}
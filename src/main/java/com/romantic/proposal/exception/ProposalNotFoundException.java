@@ -1,6 +1,6 @@
 package com.romantic.proposal.exception;
 
-public class ProposalNotFoundException extends RuntimeException {
+public class ProposalNotFoundException extends ClientErrorException {
     public ProposalNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package com.romantic.proposal.exception;
+
+public class UnsupportedExportFormatException extends ClientErrorException {
+    public UnsupportedExportFormatException(String message) {
+        super(message);
+    }
+}
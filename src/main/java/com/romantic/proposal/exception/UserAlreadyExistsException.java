@@ -1,6 +1,6 @@
 package com.romantic.proposal.exception;
 
-public class UserAlreadyExistsException extends RuntimeException {
+public class UserAlreadyExistsException extends ClientErrorException {
     public UserAlreadyExistsException(String message) {
         super(message);
     }
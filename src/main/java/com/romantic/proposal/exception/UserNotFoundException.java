@@ -1,6 +1,6 @@
 package com.romantic.proposal.exception;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends ClientErrorException {
     public UserNotFoundException(String message) {
         super(message);
     }
@@ -1,13 +1,55 @@
 package com.romantic.proposal.repository;
 
+import com.romantic.proposal.dto.NotificationExportRow;
 import com.romantic.proposal.entity.Notification;
 import com.romantic.proposal.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+public interface NotificationRepository extends JpaRepository<Notification, UUID>, NotificationRepositoryCustom {
     List<Notification> findByUserOrderByCreatedAtDesc(User user);
+
+    /**
+     * A user's notifications for export, oldest first, as a projection stream (see
+     * {@link ProposalRepository#streamExportByUserId}).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ProposalRepository.EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.romantic.proposal.dto.NotificationExportRow(
+                n.id, n.proposal.id, n.message, n.isRead, n.createdAt)
+            from Notification n
+            where n.user.id = :userId
+            order by n.createdAt
+            """)
+    Stream<NotificationExportRow> streamExportByUserId(@Param("userId") UUID userId);
+
+    @Query("""
+            select new com.romantic.proposal.repository.RetentionKey(n.id, n.createdAt)
+            from Notification n
+            where n.isRead = true
+              and n.createdAt < :cutoff
+              and (n.createdAt > :afterTime or (n.createdAt = :afterTime and n.id > :afterId))
+            order by n.createdAt, n.id
+            """)
+    List<RetentionKey> findReadCreatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                             @Param("afterTime") LocalDateTime afterTime,
+                                             @Param("afterId") UUID afterId,
+                                             Limit limit);
+
+    @Modifying
+    @Query("delete from Notification n where n.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
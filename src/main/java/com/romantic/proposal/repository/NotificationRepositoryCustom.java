@@ -0,0 +1,14 @@
+package com.romantic.proposal.repository;
+
+import java.util.List;
+
+/**
+ * Multi-row insert used by the notification write-behind.
+ */
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Inserts all rows with a single multi-row {@code INSERT} statement.
+     */
+    void insertAll(List<PendingNotification> notifications);
+}
@@ -0,0 +1,49 @@
+package com.romantic.proposal.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.List;
+
+class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO notifications (id, proposal_id, user_id, message, is_read, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, FALSE, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * One statement and one index update round for the whole batch, rather than a
+     * statement per row; portable to both H2 and PostgreSQL.
+     */
+    @Override
+    @Transactional
+    public void insertAll(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT.length() + notifications.size() * (ROW.length() + 2)).append(INSERT);
+        for (int i = 0; i < notifications.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(ROW);
+        }
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (PendingNotification notification : notifications) {
+                    statement.setObject(index++, notification.id());
+                    statement.setObject(index++, notification.proposalId());
+                    statement.setObject(index++, notification.userId());
+                    statement.setString(index++, notification.message());
+                    statement.setTimestamp(index++, Timestamp.valueOf(notification.createdAt()));
+                }
+                statement.executeUpdate();
+            }
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.Notification;
+import com.romantic.proposal.entity.UuidV7;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A notification waiting in the write-behind queue: just the column values, so a queued
+ * row does not keep its proposal and user entities reachable.
+ */
+public record PendingNotification(UUID id, UUID proposalId, UUID userId, String message, LocalDateTime createdAt) {
+
+    public static PendingNotification of(Notification notification) {
+        return new PendingNotification(
+                UuidV7.next(),
+                notification.getProposal().getId(),
+                notification.getUser().getId(),
+                notification.getMessage(),
+                LocalDateTime.now());
+    }
+}
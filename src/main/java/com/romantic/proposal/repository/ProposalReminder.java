@@ -0,0 +1,10 @@
+package com.romantic.proposal.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A claimed reminder: who to mail, and the link to remind them of.
+ */
+public record ProposalReminder(UUID id, String email, String shareableLink, LocalDateTime expiresAt) {
+}
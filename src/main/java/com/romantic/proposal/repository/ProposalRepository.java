@@ -1,14 +1,89 @@
 package com.romantic.proposal.repository;
 
+import com.romantic.proposal.dto.ProposalExportRow;
 import com.romantic.proposal.entity.Proposal;
-import com.romantic.proposal.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProposalRepository extends JpaRepository<Proposal, UUID> {
-    Optional<Proposal> findByUniqueToken(String uniqueToken);
-    Optional<Proposal> findByIdAndUser(UUID id, User user);
-}
\ No newline at end of file
+public interface ProposalRepository extends JpaRepository<Proposal, UUID>, ProposalRepositoryCustom {
+
+    // Rows per JDBC round trip for export streams (PostgreSQL only honours it inside a transaction)
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * A user's proposals for export, oldest first. Constructor projection, so nothing is
+     * added to the persistence context; the caller must close the stream in a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.romantic.proposal.dto.ProposalExportRow(
+                p.id, p.shareableLink, p.response, p.createdAt, p.expiresAt, p.respondedAt, p.viewCount)
+            from Proposal p
+            where p.user.id = :userId
+            order by p.createdAt
+            """)
+    Stream<ProposalExportRow> streamExportByUserId(@Param("userId") UUID userId);
+
+    @Query("""
+            select new com.romantic.proposal.repository.RetentionKey(p.id, p.expiresAt)
+            from Proposal p
+            where p.response is null
+              and p.expiresAt < :cutoff
+              and (p.expiresAt > :afterTime or (p.expiresAt = :afterTime and p.id > :afterId))
+            order by p.expiresAt, p.id
+            """)
+    List<RetentionKey> findExpiredUnanswered(@Param("cutoff") LocalDateTime cutoff,
+                                             @Param("afterTime") LocalDateTime afterTime,
+                                             @Param("afterId") UUID afterId,
+                                             Limit limit);
+
+    @Query("""
+            select new com.romantic.proposal.repository.RetentionKey(p.id, p.nextReminderAt)
+            from Proposal p
+            where p.nextReminderAt <= :now
+              and (p.nextReminderAt > :afterTime or (p.nextReminderAt = :afterTime and p.id > :afterId))
+            order by p.nextReminderAt, p.id
+            """)
+    List<RetentionKey> findDueReminders(@Param("now") LocalDateTime now,
+                                        @Param("afterTime") LocalDateTime afterTime,
+                                        @Param("afterId") UUID afterId,
+                                        Limit limit);
+
+    /**
+     * Owner address and link of claimed reminders; constructor projection over the primary
+     * key, joined to the owner's row.
+     */
+    @Query("""
+            select new com.romantic.proposal.repository.ProposalReminder(p.id, u.email, p.shareableLink, p.expiresAt)
+            from Proposal p join p.user u
+            where p.id in :ids
+            """)
+    List<ProposalReminder> findRemindersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from Proposal p where p.id in :ids and p.response is null")
+    int deleteUnansweredByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("""
+            insert into ProposalArchive (id, userId, uniqueToken, shareableLink, createdAt, expiresAt, archivedAt)
+            select p.id, p.user.id, p.uniqueToken, p.shareableLink, p.createdAt, p.expiresAt, :archivedAt
+            from Proposal p
+            where p.id in :ids and p.response is null
+            """)
+    int archiveUnansweredByIdIn(@Param("ids") Collection<UUID> ids,
+                                @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,40 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lookups served from the second-level cache instead of a JPQL query, and the JDBC batch
+ * updates (view counts, reminder claims) that keep that cache in step.
+ */
+public interface ProposalRepositoryCustom {
+    Optional<Proposal> findByUniqueToken(String uniqueToken);
+
+    /**
+     * Loads the proposal and its user with a row lock, bypassing the cache, for changes that
+     * must be decided on the current database state (e.g. answering it exactly once).
+     */
+    Optional<Proposal> findByUniqueTokenForUpdate(String uniqueToken);
+
+    Optional<Proposal> findByIdAndUser(UUID id, User user);
+
+    /**
+     * Adds each delta to its proposal's view count in one JDBC batch, and evicts those
+     * proposals from the second-level cache once the transaction commits.
+     */
+    void addViewCounts(Map<UUID, Long> deltas);
+
+    /**
+     * Clears the due reminder of each proposal that is still unanswered and due at {@code now},
+     * one conditional UPDATE per id in a single JDBC batch. Of concurrent claims for the same
+     * proposal (e.g. from several nodes) exactly one updates the row; only the ids this call
+     * updated are returned. Claimed proposals are evicted from the cache on commit.
+     */
+    List<UUID> claimReminders(List<UUID> ids, LocalDateTime now);
+}
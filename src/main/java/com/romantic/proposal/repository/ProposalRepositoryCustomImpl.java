@@ -0,0 +1,150 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.graph.RootGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Transactional(readOnly = true)
+class ProposalRepositoryCustomImpl implements ProposalRepositoryCustom {
+
+    private static final String ADD_VIEW_COUNT = "UPDATE proposals SET view_count = view_count + ? WHERE id = ?";
+    private static final String CLAIM_REMINDER = "UPDATE proposals SET next_reminder_at = NULL "
+            + "WHERE id = ? AND next_reminder_at <= ? AND response IS NULL";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final SingleFlight<String, Optional<UUID>> tokenLookups;
+
+    ProposalRepositoryCustomImpl(MeterRegistry meterRegistry,
+                                 @Value("${app.single-flight.timeout:2s}") Duration singleFlightTimeout) {
+        this.tokenLookups = new SingleFlight<>("proposal_by_token", singleFlightTimeout, meterRegistry);
+    }
+
+    /**
+     * When a link goes viral, concurrent cache misses for its token share one query: only
+     * the id crosses threads, and each caller then loads the entity into its own session,
+     * from the second-level cache the leader's load just filled.
+     */
+    @Override
+    public Optional<Proposal> findByUniqueToken(String uniqueToken) {
+        if (uniqueToken == null) {
+            // The column is NOT NULL, and Hibernate rejects a null natural id
+            return Optional.empty();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        if (!SingleFlight.shareable()) {
+            return session.bySimpleNaturalId(Proposal.class).loadOptional(uniqueToken);
+        }
+        return tokenLookups.execute(uniqueToken, () -> session.bySimpleNaturalId(Proposal.class)
+                        .loadOptional(uniqueToken)
+                        .map(Proposal::getId))
+                .map(id -> session.find(Proposal.class, id));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Proposal> findByUniqueTokenForUpdate(String uniqueToken) {
+        // A locking load reads the row from the database even when the entity is cached;
+        // the owner is fetched in the same statement since answering always mails them
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Proposal.class)
+                .with(new LockOptions(LockMode.PESSIMISTIC_WRITE))
+                .withFetchGraph(proposalWithUser())
+                .loadOptional(uniqueToken);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RootGraph<Proposal> proposalWithUser() {
+        return (RootGraph<Proposal>) entityManager.getEntityGraph(Proposal.WITH_USER);
+    }
+
+    /**
+     * Loads by primary key (cacheable) and checks ownership on the lazy user reference,
+     * which does not initialize it.
+     */
+    @Override
+    public Optional<Proposal> findByIdAndUser(UUID id, User user) {
+        return Optional.ofNullable(entityManager.find(Proposal.class, id))
+                .filter(proposal -> proposal.getUser().getId().equals(user.getId()));
+    }
+
+    /**
+     * Plain JDBC, which Hibernate does not see: a native query without declared spaces would
+     * invalidate every cache region, so only the touched proposals are evicted instead.
+     */
+    @Override
+    @Transactional
+    public void addViewCounts(Map<UUID, Long> deltas) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(ADD_VIEW_COUNT)) {
+                for (Map.Entry<UUID, Long> delta : deltas.entrySet()) {
+                    statement.setLong(1, delta.getValue());
+                    statement.setObject(2, delta.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+
+        evictAfterCommit(deltas.keySet());
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> claimReminders(List<UUID> ids, LocalDateTime now) {
+        List<UUID> claimed = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(CLAIM_REMINDER)) {
+                for (UUID id : ids) {
+                    statement.setObject(1, id);
+                    statement.setTimestamp(2, Timestamp.valueOf(now));
+                    statement.addBatch();
+                }
+                int[] updated = statement.executeBatch();
+                List<UUID> won = new ArrayList<>(ids.size());
+                for (int i = 0; i < updated.length; i++) {
+                    // A concurrent claim or answer already cleared the row: 0
+                    if (updated[i] > 0) {
+                        won.add(ids.get(i));
+                    }
+                }
+                return won;
+            }
+        });
+
+        evictAfterCommit(claimed);
+        return claimed;
+    }
+
+    private void evictAfterCommit(Collection<UUID> ids) {
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(id -> entityManagerFactory.getCache().evict(Proposal.class, id));
+            }
+        });
+    }
+}
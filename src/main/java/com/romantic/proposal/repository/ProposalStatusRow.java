@@ -0,0 +1,13 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.Proposal;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a status poll needs, read without loading the entity.
+ */
+public record ProposalStatusRow(UUID id, Proposal.ProposalResponse response, LocalDateTime respondedAt,
+                                LocalDateTime expiresAt, long viewCount) {
+}
@@ -0,0 +1,53 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.Proposal;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Proposal reads over R2DBC for the polling endpoints (see ReactiveReadConfig).
+ *
+ * <p>Plain SQL through {@link DatabaseClient}: these rows bypass Hibernate, its
+ * second-level cache and the replica routing, and read the primary directly. Writes stay
+ * on {@link ProposalRepository}; nothing here is ever written.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "app.reactive-reads.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProposalReadRepository {
+
+    // The ownership check is the join, so an unknown user and someone else's proposal both come back empty
+    private static final String STATUS_SQL = """
+            SELECT p.id, p.response, p.responded_at, p.expires_at, p.view_count
+            FROM proposals p
+            JOIN users u ON u.id = p.user_id
+            WHERE p.id = :id AND u.email = :email
+            """;
+
+    private final DatabaseClient reactiveReadClient;
+
+    public Mono<ProposalStatusRow> findStatus(UUID proposalId, String email) {
+        return reactiveReadClient.sql(STATUS_SQL)
+                .bind("id", proposalId)
+                .bind("email", email)
+                .map(ReactiveProposalReadRepository::statusRow)
+                .one();
+    }
+
+    private static ProposalStatusRow statusRow(Readable row) {
+        String response = row.get("response", String.class);
+        return new ProposalStatusRow(
+                row.get("id", UUID.class),
+                response == null ? null : Proposal.ProposalResponse.valueOf(response),
+                row.get("responded_at", LocalDateTime.class),
+                row.get("expires_at", LocalDateTime.class),
+                row.get("view_count", Long.class));
+    }
+}
@@ -0,0 +1,14 @@
+package com.romantic.proposal.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset cursor for the background batch jobs (retention sweeper, reminders): the ordering
+ * timestamp plus the id as tie-breaker.
+ */
+public record RetentionKey(UUID id, LocalDateTime timestamp) {
+
+    /** Cursor positioned before every real row. */
+    public static final RetentionKey START = new RetentionKey(new UUID(0L, 0L), LocalDateTime.of(1970, 1, 1, 0, 0));
+}
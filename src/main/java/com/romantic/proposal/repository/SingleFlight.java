@@ -0,0 +1,112 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent lookups of the same key: the first caller (the leader) runs the
+ * query, callers arriving while it is in flight wait for and share its result, or its
+ * exception, which every waiter rethrows. Nothing is kept once the flight lands; caching is
+ * the second-level cache's job, this only stops a burst of misses from becoming a burst of
+ * identical queries.
+ *
+ * <p>A waiter gives up on the leader after the timeout and runs the lookup itself, so a
+ * stuck query delays the others by at most that long. Results must be safe to share across
+ * threads and sessions (ids rather than managed entities). A null key is never coalesced:
+ * its lookup simply runs.</p>
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    SingleFlight(String lookup, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeoutNanos = timeout.toNanos();
+        this.leaders = calls(meterRegistry, lookup, "leader");
+        this.coalesced = calls(meterRegistry, lookup, "coalesced");
+        this.timedOut = calls(meterRegistry, lookup, "timed_out");
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String lookup, String role) {
+        return Counter.builder("repository.single.flight")
+                .description("Lookups that ran the query (leader) or shared one already in flight (coalesced)")
+                .tag("lookup", lookup)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the current thread may take a result another transaction read. Not when its
+     * own transaction may have written (the leader cannot see those writes), nor when it
+     * is pinned to the primary for read-your-writes (the leader may have read the replica).
+     */
+    static boolean shareable() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingDataSource.isPrimaryPinned();
+    }
+
+    V execute(K key, Supplier<V> lookup) {
+        if (key == null) {
+            // ConcurrentHashMap takes no null keys, and a request missing its field is no hot key
+            return lookup.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            leaders.increment();
+            return lead(key, flight, lookup);
+        }
+
+        coalesced.increment();
+        try {
+            return leader.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return lookup.get();
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> lookup) {
+        V value;
+        try {
+            value = lookup.get();
+        } catch (RuntimeException | Error e) {
+            // Removed first: callers arriving from now on start a fresh flight
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        // Suppliers cannot throw checked exceptions
+        throw new IllegalStateException(cause);
+    }
+}
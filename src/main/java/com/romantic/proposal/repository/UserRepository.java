@@ -3,11 +3,8 @@ package com.romantic.proposal.repository;
 import com.romantic.proposal.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.User;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lookups served from the second-level cache instead of a JPQL query, and the JDBC batch
+ * insert used by the bulk import.
+ */
+public interface UserRepositoryCustom {
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Inserts the users (ids, emails and hashes already set) as one JDBC batch, skipping
+     * rows whose email is already taken instead of failing the batch. Returns the update
+     * count per user: 1 inserted, 0 skipped as a duplicate.
+     */
+    int[] insertIgnoringDuplicates(List<User> users);
+}
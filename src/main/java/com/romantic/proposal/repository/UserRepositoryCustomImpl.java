@@ -0,0 +1,98 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Transactional(readOnly = true)
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String POSTGRESQL_INSERT = """
+            INSERT INTO users (id, email, password, name, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING""";
+
+    // H2 (dev/tests) has no ON CONFLICT; a MERGE that only inserts does the same
+    private static final String MERGE_INSERT = """
+            MERGE INTO users u
+            USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)),
+                           CAST(? AS VARCHAR(100)), CAST(? AS TIMESTAMP))) AS s(id, email, password, name, created_at)
+            ON u.email = s.email
+            WHEN NOT MATCHED THEN INSERT (id, email, password, name, created_at)
+                VALUES (s.id, s.email, s.password, s.name, s.created_at)""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final SingleFlight<String, Optional<UUID>> emailLookups;
+
+    UserRepositoryCustomImpl(MeterRegistry meterRegistry,
+                             @Value("${app.single-flight.timeout:2s}") Duration singleFlightTimeout) {
+        this.emailLookups = new SingleFlight<>("user_by_email", singleFlightTimeout, meterRegistry);
+    }
+
+    /**
+     * Email is the user's natural id: a warm lookup resolves email to id and id to entity
+     * from the cache without touching the database. Concurrent misses for one address (many
+     * tabs polling) share a single query, as in ProposalRepositoryCustomImpl.findByUniqueToken.
+     */
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            // The column is NOT NULL, and Hibernate rejects a null natural id
+            return Optional.empty();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        if (!SingleFlight.shareable()) {
+            return session.bySimpleNaturalId(User.class).loadOptional(email);
+        }
+        return emailLookups.execute(email, () -> session.bySimpleNaturalId(User.class)
+                        .loadOptional(email)
+                        .map(User::getId))
+                .map(id -> session.find(User.class, id));
+    }
+
+    /**
+     * Plain JDBC batch on the session's connection: no entity is managed or cached, so a
+     * large import does not grow the persistence context. Update counts are only exact
+     * while the driver does not rewrite batches (pgjdbc {@code reWriteBatchedInserts}).
+     */
+    @Override
+    @Transactional
+    public int[] insertIgnoringDuplicates(List<User> users) {
+        String sql = isPostgreSQL() ? POSTGRESQL_INSERT : MERGE_INSERT;
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (User user : users) {
+                    statement.setObject(1, user.getId());
+                    statement.setString(2, user.getEmail());
+                    statement.setString(3, user.getPassword());
+                    statement.setString(4, user.getName());
+                    statement.setTimestamp(5, Timestamp.valueOf(user.getCreatedAt()));
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+    }
+
+    private boolean isPostgreSQL() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
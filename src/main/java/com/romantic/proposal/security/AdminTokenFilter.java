@@ -0,0 +1,68 @@
+package com.romantic.proposal.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Grants {@code ROLE_ADMIN} to requests carrying the configured {@code app.admin.token} in
+ * {@value #HEADER}. With no token configured nobody is an admin. Only part of the security
+ * filter chain (not a bean), so it never runs as a plain servlet filter.
+ *
+ * <p>{@link #forMetrics} is the same check for Prometheus scrapes: {@code ROLE_METRICS} for
+ * {@code app.metrics.token} in {@value #METRICS_HEADER}, on {@code /actuator/prometheus} only.</p>
+ */
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Admin-Token";
+    public static final String METRICS_HEADER = "X-Metrics-Token";
+
+    private final byte[] token;
+    private final String header;
+    private final String pathPrefix;
+    private final String principal;
+    private final String role;
+
+    public AdminTokenFilter(String adminToken) {
+        this(adminToken, HEADER, "/api/admin/", "admin", "ROLE_ADMIN");
+    }
+
+    private AdminTokenFilter(String token, String header, String pathPrefix, String principal, String role) {
+        this.token = token == null || token.isEmpty() ? null : token.getBytes(StandardCharsets.UTF_8);
+        this.header = header;
+        this.pathPrefix = pathPrefix;
+        this.principal = principal;
+        this.role = role;
+    }
+
+    public static AdminTokenFilter forMetrics(String metricsToken) {
+        return new AdminTokenFilter(metricsToken, METRICS_HEADER, "/actuator/prometheus", "prometheus", "ROLE_METRICS");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return token == null || !request.getRequestURI().startsWith(pathPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String supplied = request.getHeader(header);
+        if (supplied != null && MessageDigest.isEqual(token, supplied.getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    principal, null, List.of(new SimpleGrantedAuthority(role))));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,86 @@
+package com.romantic.proposal.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for one class of endpoints, adjusted by AIMD on observed latency.
+ *
+ * <p>A request that finishes within the latency threshold while the limit is at least half
+ * used raises the limit additively (by about one per limit's worth of such requests); a
+ * slow or failed one cuts it multiplicatively. The limit therefore settles near the
+ * concurrency the backend serves within the threshold, and drops quickly when a dependency
+ * (SMTP, the connection pool) slows down.</p>
+ *
+ * <p>Properties are bound from {@code app.concurrency-limit.<class>.*} (see SecurityConfig).</p>
+ */
+class AimdLimit {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private int minLimit = 1;
+    private int maxLimit = 200;
+    private long latencyThresholdNanos = Duration.ofSeconds(1).toNanos();
+    private double backoffRatio = 0.9;
+
+    // Guarded by this; read without the lock by tryAcquire and the gauges
+    private volatile double limit = 20;
+
+    /**
+     * Takes a slot, or returns false at once if the limit is reached.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot taken by {@link #tryAcquire} and feeds the request's outcome into the limit.
+     */
+    void release(long latencyNanos, boolean failed) {
+        int wasInFlight = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (wasInFlight * 2 >= limit) {
+                // Only a limit that is actually being used has earned an increase
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.limit = initialLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+}
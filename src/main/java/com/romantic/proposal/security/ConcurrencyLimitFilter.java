@@ -0,0 +1,139 @@
+package com.romantic.proposal.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load shedding per endpoint class, ahead of Spring Security.
+ *
+ * <p>Auth (BCrypt), proposal writes (SMTP on answer) and proposal reads (including the
+ * link-open {@code /view} ping) each get their own
+ * {@link AimdLimit}, so a slow dependency of one class cannot take the Tomcat threads and
+ * pool connections the others need. A request over its class's limit gets an immediate 503
+ * with {@code Retry-After} instead of queueing. Everything else (admin import, export
+ * streams, actuator, static files) is not limited.</p>
+ *
+ * <p>Registered as a servlet filter by SecurityConfig when {@code app.concurrency-limit.enabled}
+ * is set. Current limits, requests in flight and rejections are published as
+ * {@code concurrency.limit}, {@code concurrency.in.flight} and {@code concurrency.rejected}.</p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered {
+
+    enum EndpointClass { AUTH, PROPOSAL_WRITE, PROPOSAL_READ }
+
+    private static final byte[] REJECTED_BODY = """
+            {"status":503,"error":"Service Unavailable","message":"Too many requests in progress, please retry shortly"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final Map<EndpointClass, AimdLimit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry) {
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AimdLimit limit = new AimdLimit();
+            String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            limits.put(endpointClass, limit);
+            rejections.put(endpointClass, Counter.builder("concurrency.rejected")
+                    .description("Requests shed with a 503 because their endpoint class was at its limit")
+                    .tag("endpoint", tag)
+                    .register(meterRegistry));
+            Gauge.builder("concurrency.limit", limit, AimdLimit::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("endpoint", tag)
+                    .register(meterRegistry);
+            Gauge.builder("concurrency.in.flight", limit, AimdLimit::getInFlight)
+                    .description("Requests currently holding a slot")
+                    .tag("endpoint", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    // Bound from app.concurrency-limit.{auth,proposal-write,proposal-read}.*
+
+    AimdLimit getAuth() {
+        return limits.get(EndpointClass.AUTH);
+    }
+
+    AimdLimit getProposalWrite() {
+        return limits.get(EndpointClass.PROPOSAL_WRITE);
+    }
+
+    AimdLimit getProposalRead() {
+        return limits.get(EndpointClass.PROPOSAL_READ);
+    }
+
+    // Right after ServerTimingFilter, so shed requests are still timed when asked
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AimdLimit limit = limits.get(endpointClass);
+        if (!limit.tryAcquire()) {
+            rejections.get(endpointClass).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limit.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            // CORS preflights are answered by the security chain without touching the backend
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/")) {
+            return EndpointClass.AUTH;
+        }
+        if (path.startsWith("/api/proposal/")) {
+            // Link-open tracking is a POST but only bumps an in-memory counter, like a read
+            boolean read = HttpMethod.GET.matches(request.getMethod()) || path.endsWith("/view");
+            return read ? EndpointClass.PROPOSAL_READ : EndpointClass.PROPOSAL_WRITE;
+        }
+        return null;
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+}
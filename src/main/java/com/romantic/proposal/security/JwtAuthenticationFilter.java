@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -52,48 +54,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String requestURI = request.getRequestURI();
-
-        System.out.println("=== JWT FILTER DEBUG ===");
-        System.out.println("Request URI: " + requestURI);
-        System.out.println("Auth Header: " + authHeader);
 
+        // Debug only: this runs on every authenticated request (and thousands of times in warm-up)
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            System.out.println("Token extracted: " + token.substring(0, Math.min(20, token.length())) + "...");
 
             try {
                 String email = jwtUtil.extractEmail(token);
-                System.out.println("Email extracted: " + email);
 
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    boolean isValid = jwtUtil.validateToken(token, email);
-                    System.out.println("Token valid: " + isValid);
-
-                    if (isValid) {
+                    if (jwtUtil.validateToken(token, email)) {
                         UsernamePasswordAuthenticationToken authToken =
                                 new UsernamePasswordAuthenticationToken(email, null, new ArrayList<>());
 
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
-                        System.out.println("✅ Authentication set successfully for: " + email);
+                        log.debug("✅ Authenticated {} for {}", email, request.getRequestURI());
                     } else {
-                        System.out.println("❌ Token validation failed!");
+                        log.debug("❌ Token validation failed for {}", request.getRequestURI());
                     }
-                } else {
-                    System.out.println("Email is null or already authenticated");
                 }
             } catch (Exception e) {
-                System.out.println("❌ ERROR: " + e.getMessage());
-                e.printStackTrace();
+                log.debug("❌ Rejected bearer token for {}: {}", request.getRequestURI(), e.getMessage());
             }
         } else {
-            System.out.println("No Bearer token found in header");
+            log.debug("No Bearer token for {}", request.getRequestURI());
         }
 
-        System.out.println("Current Authentication: " + SecurityContextHolder.getContext().getAuthentication());
-        System.out.println("========================");
-
         filterChain.doFilter(request, response);
     }
 }
\ No newline at end of file
@@ -1,26 +1,51 @@
 package com.romantic.proposal.security;
 
+import com.romantic.proposal.timing.ServerTiming;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+@Slf4j
 @Component
 public class JwtUtil {
 
+    // Parsing includes signature verification; a token that fails either counts as "invalid"
+    private final Timer parseValidTimer;
+    private final Timer parseInvalidTimer;
+    private final Timer generateTimer;
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.parseValidTimer = jwtTimer(meterRegistry, "parse", "valid");
+        this.parseInvalidTimer = jwtTimer(meterRegistry, "parse", "invalid");
+        this.generateTimer = jwtTimer(meterRegistry, "generate", "valid");
+    }
+
+    private static Timer jwtTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("jwt.operations")
+                .description("JWT parse/verify and signing time")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     // FIXED: Use direct byte conversion (no Base64 decoding)
     private Key getSigningKey() {
         byte[] keyBytes = secret.getBytes();
@@ -41,11 +66,21 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        ServerTiming.begin(ServerTiming.Phase.JWT);
+        long start = System.nanoTime();
+        Timer timer = parseInvalidTimer;
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            timer = parseValidTimer;
+            return claims;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            ServerTiming.end(ServerTiming.Phase.JWT);
+        }
     }
 
     private Boolean isTokenExpired(String token) {
@@ -58,16 +93,17 @@ public class JwtUtil {
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
-        String token = Jwts.builder()
+        ServerTiming.begin(ServerTiming.Phase.JWT);
+        String token = generateTimer.record(() -> Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .compact());
+        ServerTiming.end(ServerTiming.Phase.JWT);
 
-        System.out.println("✅ Token generated for: " + subject);
-        System.out.println("Token preview: " + token.substring(0, Math.min(50, token.length())) + "...");
+        log.debug("✅ Token generated for: {}", subject);
 
         return token;
     }
@@ -76,10 +112,10 @@ public class JwtUtil {
         try {
             final String extractedEmail = extractEmail(token);
             boolean isValid = (extractedEmail != null && extractedEmail.equals(email) && !isTokenExpired(token));
-            System.out.println("🔍 Token validation - Email match: " + (extractedEmail != null && extractedEmail.equals(email)) + ", Not expired: " + !isTokenExpired(token));
+            log.debug("🔍 Token validation for {}: {}", email, isValid);
             return isValid;
         } catch (Exception e) {
-            System.out.println("❌ Token validation error: " + e.getMessage());
+            log.debug("❌ Token validation error: {}", e.getMessage());
             return false;
         }
     }
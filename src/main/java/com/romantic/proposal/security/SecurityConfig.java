@@ -1,10 +1,13 @@
 package com.romantic.proposal.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -31,9 +34,26 @@ public class SecurityConfig {
     @Value("${cors.allowed.origins:http://localhost:5173,http://localhost:3000}")
     private String allowedOrigins;
 
+    @Value("${app.admin.token:}")
+    private String adminToken;
+
+    @Value("${app.metrics.token:}")
+    private String metricsToken;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
+    }
+
+    /**
+     * Per-endpoint-class load shedding, registered as a plain servlet filter so it runs
+     * before the security chain (see ConcurrencyLimitFilter for the classes and metrics).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true")
+    @ConfigurationProperties("app.concurrency-limit")
+    public ConcurrencyLimitFilter concurrencyLimitFilter(MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitFilter(meterRegistry);
     }
 
     @Bean
@@ -52,11 +72,23 @@ public class SecurityConfig {
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
 
-                        // --- Public proposal respond ---
-                        .requestMatchers("/api/proposal/*/respond").permitAll()
+                        // --- Public proposal respond and link-open tracking ---
+                        .requestMatchers("/api/proposal/*/respond", "/api/proposal/*/view").permitAll()
 
                         .requestMatchers("/error").permitAll()
 
+                        // --- Second leg of a streamed response (export); the request was authorized already ---
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                        // --- Admin operations (X-Admin-Token, see AdminTokenFilter) ---
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
+                        // --- Health checks ---
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+
+                        // --- Prometheus scrapes (X-Metrics-Token, see AdminTokenFilter) ---
+                        .requestMatchers("/actuator/prometheus").hasRole("METRICS")
+
                         .anyRequest().authenticated()
                 )
 
@@ -64,14 +96,16 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
 
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new AdminTokenFilter(adminToken), JwtAuthenticationFilter.class)
+                .addFilterBefore(AdminTokenFilter.forMetrics(metricsToken), JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
-    // Allow H2 console
+    // Allow H2 console (only built when the console itself is enabled)
     @Bean
-    @Profile("default")
+    @ConditionalOnProperty(name = "spring.h2.console.enabled", havingValue = "true")
     public SecurityFilterChain h2ConsoleSecurityFilterChain(HttpSecurity http) throws Exception {
         http
                 .securityMatcher("/h2-console/**")
@@ -100,7 +134,7 @@ public class SecurityConfig {
         // Important: allow all headers (fixes CORS preflight 403)
         config.setAllowedHeaders(List.of("*"));
 
-        config.setExposedHeaders(List.of("Authorization"));
+        config.setExposedHeaders(List.of("Authorization", "Server-Timing"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
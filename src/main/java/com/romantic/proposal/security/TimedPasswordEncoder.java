@@ -0,0 +1,56 @@
+package com.romantic.proposal.security;
+
+import com.romantic.proposal.timing.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Records how long password hashing takes. BCrypt is deliberately slow, so its cost per
+ * login/registration is worth watching next to the request latency it contributes to.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.encoder")
+                .description("Password hashing time")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        ServerTiming.begin(ServerTiming.Phase.BCRYPT);
+        try {
+            return encodeTimer.record(() -> delegate.encode(rawPassword));
+        } finally {
+            ServerTiming.end(ServerTiming.Phase.BCRYPT);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        ServerTiming.begin(ServerTiming.Phase.BCRYPT);
+        try {
+            Boolean matches = matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+            return Boolean.TRUE.equals(matches);
+        } finally {
+            ServerTiming.end(ServerTiming.Phase.BCRYPT);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,19 +1,24 @@
 package com.romantic.proposal.service;
 
+import com.romantic.proposal.datasource.ReadYourWrites;
 import com.romantic.proposal.dto.*;
 import com.romantic.proposal.entity.User;
 
 import com.romantic.proposal.exception.InvalidCredentialsException;
+import com.romantic.proposal.exception.InvalidEmailException;
 import com.romantic.proposal.exception.UserAlreadyExistsException;
 import com.romantic.proposal.exception.UserNotFoundException;
 import com.romantic.proposal.repository.UserRepository;
 import com.romantic.proposal.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.HashMap;
-import java.util.Map;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -22,45 +27,73 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final ReadYourWrites readYourWrites;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
+    // SQLState of a unique violation (PostgreSQL and H2). users.email is the only unique column
+    // besides the generated id; matched by state, not constraint name, because databases
+    // baselined from ddl-auto carry a Hibernate-generated name for it
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    /**
+     * Canonical form of an email address as stored and looked up: trimmed and lower-cased,
+     * so {@code Alice@Example.com} and {@code alice@example.com} are the same account.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Format check applied to an already {@linkplain #normalizeEmail normalized} address.
+     */
+    public static boolean isValidEmail(String email) {
+        return email != null && EMAIL_PATTERN.matcher(email).matches();
+    }
 
+    /**
+     * Registers in a single round trip: no existence check first, the insert is flushed
+     * right away and a duplicate is reported by the unique constraint. That also settles
+     * two concurrent registrations of the same address (one gets a 409, not a 500).
+     */
     @Transactional
-    public Map<String, String> register(RegisterRequest request) {
+    public RegisterResponse register(RegisterRequest request) {
+        String email = normalizeEmail(request.getEmail());
 
         // Check valid email format
-        if (!request.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            throw new InvalidCredentialsException("Invalid email format");
-        }
-
-        // Check if email already used
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new UserAlreadyExistsException("Email already registered");
+        if (!isValidEmail(email)) {
+            throw new InvalidEmailException("Invalid email format");
         }
 
         User user = User.builder()
-                .email(request.getEmail())
+                .email(email)
                 .password(passwordEncoder.encode(request.getPassword()))
                 .name(request.getName())
                 .build();
 
-        user = userRepository.save(user);
-
-        Map<String, String> response = new HashMap<>();
-        response.put("userId", user.getId().toString());
-        response.put("email", user.getEmail());
-        response.put("message", "User registered successfully");
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new UserAlreadyExistsException("Email already registered");
+            }
+            throw e;
+        }
+        readYourWrites.recordWrite(user.getEmail());
 
-        return response;
+        return new RegisterResponse(user.getId().toString(), user.getEmail(), "User registered successfully");
     }
 
     public LoginResponse login(LoginRequest request) {
+        String email = normalizeEmail(request.getEmail());
 
         // Check valid email format
-        if (!request.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-            throw new InvalidCredentialsException("Invalid email format");
+        if (!isValidEmail(email)) {
+            throw new InvalidEmailException("Invalid email format");
         }
 
         // Check if user exists
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
 
         // Check password
@@ -78,8 +111,20 @@ public class AuthService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+        // Tokens issued before emails were normalized may carry the address as typed
+        String normalized = normalizeEmail(email);
+        return readYourWrites.read(normalized, () -> userRepository.findByEmail(normalized))
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
     }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && sql.getSQLState() != null) {
+                return UNIQUE_VIOLATION.equals(sql.getSQLState());
+            }
+        }
+        return false;
+    }
 }
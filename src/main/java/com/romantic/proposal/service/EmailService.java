@@ -1,11 +1,16 @@
 package com.romantic.proposal.service;
 
+import com.romantic.proposal.timing.ServerTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -15,7 +20,14 @@ import jakarta.mail.internet.MimeMessage;
 @Slf4j
 public class EmailService {
 
+    private static final String REMINDER_SUBJECT = "💌 Your Proposal Is Still Waiting for an Answer";
+    private static final String KIND_RESPONSE = "response";
+    private static final String KIND_REMINDER = "reminder";
+
+    // Lazy: the SMTP sender is only created when the first email goes out
+    @Lazy
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.email.from}")
     private String fromEmail;
@@ -27,18 +39,31 @@ public class EmailService {
      * @param response     Proposal response ("YES" or other)
      * @param proposalLink Link to view the proposal
      */
+    @Async("mailTaskExecutor")
     public void sendProposalResponseEmail(String toEmail, String response, String proposalLink) {
+        ServerTiming.begin(ServerTiming.Phase.MAIL);
         try {
             log.info("📧 Preparing to send email to: {}", toEmail);
             log.info("Response type: {}, From: {}", response, fromEmail);
 
             // Try HTML email first, fallback to simple text if it fails
+            Timer.Sample html = Timer.start(meterRegistry);
             try {
                 sendHtmlEmail(toEmail, response, proposalLink);
+                html.stop(sendTimer(KIND_RESPONSE, "html", "success"));
                 log.info("✅ HTML email sent successfully to: {}", toEmail);
             } catch (Exception htmlError) {
+                html.stop(sendTimer(KIND_RESPONSE, "html", "failure"));
                 log.warn("⚠️ HTML email failed, trying simple text email", htmlError);
-                sendSimpleEmail(toEmail, response, proposalLink);
+
+                Timer.Sample fallback = Timer.start(meterRegistry);
+                try {
+                    sendSimpleEmail(toEmail, response, proposalLink);
+                    fallback.stop(sendTimer(KIND_RESPONSE, "fallback", "success"));
+                } catch (RuntimeException fallbackError) {
+                    fallback.stop(sendTimer(KIND_RESPONSE, "fallback", "failure"));
+                    throw fallbackError;
+                }
                 log.info("✅ Simple text email sent successfully to: {}", toEmail);
             }
 
@@ -46,9 +71,70 @@ public class EmailService {
             log.error("❌ Failed to send email to: {}", toEmail, e);
             log.error("Error details: {}", e.getMessage());
             // Do not throw exception: email failure should not break the app
+        } finally {
+            ServerTiming.end(ServerTiming.Phase.MAIL);
         }
     }
 
+    /**
+     * Reminds the owner that their proposal is still waiting for an answer.
+     * Called by ProposalReminderScheduler once per proposal.
+     *
+     * @param toEmail      Recipient email address
+     * @param proposalLink Link to the proposal, to share again
+     */
+    @Async("reminderTaskExecutor")
+    public void sendProposalReminderEmail(String toEmail, String proposalLink) {
+        log.info("📧 Sending reminder to: {}", toEmail);
+
+        Timer.Sample html = Timer.start(meterRegistry);
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromEmail);
+            helper.setTo(toEmail);
+            helper.setSubject(REMINDER_SUBJECT);
+            helper.setText(buildReminderHtmlEmail(proposalLink), true);
+            mailSender.send(message);
+            html.stop(sendTimer(KIND_REMINDER, "html", "success"));
+        } catch (Exception htmlError) {
+            html.stop(sendTimer(KIND_REMINDER, "html", "failure"));
+            log.warn("⚠️ HTML reminder failed, trying simple text email", htmlError);
+
+            Timer.Sample fallback = Timer.start(meterRegistry);
+            try {
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setFrom(fromEmail);
+                message.setTo(toEmail);
+                message.setSubject(REMINDER_SUBJECT);
+                message.setText(
+                        "Hello,\n\n" +
+                                "Your romantic proposal is still waiting for an answer.\n\n" +
+                                "Maybe it's time to share the link once more? 💌\n\n" +
+                                "Proposal Link: " + proposalLink + "\n\n" +
+                                "Fingers crossed,\n" +
+                                "Romantic Proposal App"
+                );
+                mailSender.send(message);
+                fallback.stop(sendTimer(KIND_REMINDER, "fallback", "success"));
+            } catch (Exception e) {
+                fallback.stop(sendTimer(KIND_REMINDER, "fallback", "failure"));
+                log.error("❌ Failed to send reminder to: {}", toEmail, e);
+                // Do not throw exception: the reminder is already claimed and is not retried
+            }
+        }
+    }
+
+    // Reminders come in bursts of up to a whole tick; the tag keeps them out of the answer flow's percentiles
+    private Timer sendTimer(String kind, String path, String outcome) {
+        return Timer.builder("email.send")
+                .description("Time to hand an answer notification or reminder email to the SMTP server")
+                .tag("kind", kind)
+                .tag("path", path)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     /**
      * Send HTML formatted email (preferred)
      */
@@ -112,10 +198,53 @@ public class EmailService {
         );
     }
 
+    /**
+     * HTML email template for the unanswered-proposal reminder
+     */
+    static String buildReminderHtmlEmail(String proposalLink) {
+        return """
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="UTF-8">
+                <style>
+                    body { font-family: Arial, sans-serif; background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%); padding: 20px; }
+                    .container { max-width: 600px; margin: 0 auto; background: white; border-radius: 20px; overflow: hidden; box-shadow: 0 20px 60px rgba(0,0,0,0.3); }
+                    .header { background: linear-gradient(135deg, #fbc2eb 0%%, #a6c1ee 100%%); padding: 40px; text-align: center; color: white; }
+                    .emoji { font-size: 60px; margin: 20px 0; }
+                    .content { padding: 40px 30px; line-height: 1.8; }
+                    .button { display: inline-block; background: linear-gradient(135deg, #fbc2eb 0%%, #a6c1ee 100%%); color: white; text-decoration: none; padding: 15px 40px; border-radius: 50px; font-weight: bold; margin: 20px 0; }
+                    .footer { background: #f8f9fa; padding: 30px; text-align: center; color: #666; font-size: 14px; }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <div class="emoji">💌</div>
+                        <h1>Still Waiting for an Answer</h1>
+                    </div>
+                    <div class="content">
+                        <p>Hello,</p>
+                        <p>Your romantic proposal hasn't been answered yet.</p>
+                        <p>Maybe it's time to share the link once more?</p>
+                        <p style="text-align: center;">
+                            <a href="%s" class="button">Open Your Proposal</a>
+                        </p>
+                    </div>
+                    <div class="footer">
+                        <p>💌 Fingers crossed - Romantic Proposal App</p>
+                        <p style="font-size: 12px;">Link: %s</p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """.formatted(proposalLink, proposalLink);
+    }
+
     /**
      * HTML email template for positive response
      */
-    private String buildPositiveHtmlEmail(String proposalLink) {
+    static String buildPositiveHtmlEmail(String proposalLink) {
         return """
             <!DOCTYPE html>
             <html>
@@ -158,7 +287,7 @@ public class EmailService {
     /**
      * HTML email template for negative response
      */
-    private String buildNegativeHtmlEmail(String proposalLink) {
+    static String buildNegativeHtmlEmail(String proposalLink) {
         return """
             <!DOCTYPE html>
             <html>
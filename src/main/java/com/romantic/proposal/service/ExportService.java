@@ -0,0 +1,158 @@
+package com.romantic.proposal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.romantic.proposal.datasource.ReadYourWrites;
+import com.romantic.proposal.dto.ExportRow;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.exception.UnsupportedExportFormatException;
+import com.romantic.proposal.repository.NotificationRepository;
+import com.romantic.proposal.repository.ProposalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams a user's proposals and notifications as NDJSON or CSV.
+ *
+ * <p>Rows come from projection streams read with a JDBC fetch size inside one read-only
+ * transaction and are written out one at a time, so neither the heap nor the persistence
+ * context grows with the size of the account.</p>
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new UnsupportedExportFormatException("Unsupported export format: " + name);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ProposalRepository proposalRepository;
+    private final NotificationRepository notificationRepository;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter rowWriter;
+
+    public ExportService(ProposalRepository proposalRepository,
+                         NotificationRepository notificationRepository,
+                         ReadYourWrites readYourWrites,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper) {
+        this.proposalRepository = proposalRepository;
+        this.notificationRepository = notificationRepository;
+        this.readYourWrites = readYourWrites;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // The writer must not close the response stream after each row
+        this.rowWriter = objectMapper.writerFor(ExportRow.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Writes every proposal, then every notification, of {@code user} to {@code out}.
+     */
+    public void export(User user, Format format, OutputStream out) throws IOException {
+        UUID userId = user.getId();
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        try {
+            long rows = readYourWrites.read(user.getEmail(), () -> transactionTemplate.execute(status -> {
+                try {
+                    if (format == Format.CSV) {
+                        writeCsvRecord(buffered, ExportRow.CSV_HEADER);
+                    }
+                    return write(proposalRepository.streamExportByUserId(userId), format, buffered)
+                            + write(notificationRepository.streamExportByUserId(userId), format, buffered);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            buffered.flush();
+            log.info("📦 Exported {} rows as {} for user: {}", rows, format, userId);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long write(Stream<? extends ExportRow> rows, Format format, OutputStream out) throws IOException {
+        long count = 0;
+        try (rows) {
+            for (Iterator<? extends ExportRow> it = rows.iterator(); it.hasNext(); count++) {
+                ExportRow row = it.next();
+                if (format == Format.CSV) {
+                    writeCsvRecord(out, row.csvValues());
+                } else {
+                    rowWriter.writeValue(out, row);
+                    out.write('\n');
+                }
+            }
+        }
+        return count;
+    }
+
+    private static void writeCsvRecord(OutputStream out, Object[] values) throws IOException {
+        StringBuilder record = new StringBuilder(128);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            if (values[i] != null) {
+                appendCsvField(record, values[i].toString());
+            }
+        }
+        record.append("\r\n");
+        out.write(record.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // RFC 4180 quoting, plus a leading quote on values a spreadsheet would run as a formula
+    private static void appendCsvField(StringBuilder record, String value) {
+        boolean formula = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0;
+        if (!formula && value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            record.append(value);
+            return;
+        }
+        record.append('"');
+        if (formula) {
+            record.append('\'');
+        }
+        record.append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,208 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.entity.Notification;
+import com.romantic.proposal.repository.NotificationRepository;
+import com.romantic.proposal.repository.PendingNotification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the notifications created when a proposal is answered.
+ *
+ * <p>By default a notification is saved in the answering transaction, as before. With
+ * {@code app.notifications.write-behind.enabled=true} it is instead queued once that
+ * transaction commits, and a single writer thread inserts queued rows as one multi-row
+ * statement per {@code batch-size} rows or {@code flush-interval}, whichever comes first.
+ * A burst of answers then costs a few batched inserts instead of one contended insert each.</p>
+ *
+ * <p>Nothing is dropped on purpose: when the queue is full, or once shutdown has begun,
+ * the row is inserted synchronously by the caller, and shutdown drains the queue before
+ * the connection pool closes. What is at risk is only what sits in the queue if the
+ * process dies abruptly (at most {@code queue-capacity} rows).</p>
+ */
+@Slf4j
+@Service
+public class NotificationWriter {
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate newTransaction;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean writeBehind;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final BlockingQueue<PendingNotification> queue;
+
+    private DistributionSummary batchSizes;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public NotificationWriter(NotificationRepository notificationRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.notifications.write-behind.enabled:false}") boolean writeBehind,
+                              @Value("${app.notifications.write-behind.batch-size:200}") int batchSize,
+                              @Value("${app.notifications.write-behind.flush-interval:50ms}") Duration flushInterval,
+                              @Value("${app.notifications.write-behind.queue-capacity:10000}") int queueCapacity) {
+        this.notificationRepository = notificationRepository;
+        // Fallback inserts run from afterCommit, where the finished transaction is still bound
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.writeBehind = writeBehind;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.queue = writeBehind ? new ArrayBlockingQueue<>(queueCapacity) : null;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!writeBehind) {
+            return;
+        }
+        Gauge.builder("notification.writer.queue", queue, BlockingQueue::size)
+                .description("Notifications waiting for the write-behind writer")
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("notification.writer.batch")
+                .description("Rows per write-behind insert")
+                .baseUnit("rows")
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::drain, "notification-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("🔔 Notification write-behind on: batches of {} every {}", batchSize, flushInterval);
+    }
+
+    /**
+     * Stops accepting rows, lets the writer finish what is queued, then inserts anything
+     * still left on the calling thread.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (!writeBehind) {
+            return;
+        }
+        running = false;
+        writerThread.join(flushInterval.toMillis() * 10 + 5_000);
+
+        List<PendingNotification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("🔔 Flushing {} queued notifications on shutdown", remaining.size());
+            insertNow(remaining, "shutdown");
+        }
+    }
+
+    /**
+     * Saves a notification created in the current transaction.
+     */
+    public void save(Notification notification) {
+        if (!writeBehind) {
+            notificationRepository.save(notification);
+            return;
+        }
+
+        PendingNotification pending = PendingNotification.of(notification);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(pending);
+            return;
+        }
+        // Only queue what has committed: a rolled-back answer must not leave a notification
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(pending);
+            }
+        });
+    }
+
+    private void enqueue(PendingNotification pending) {
+        if (!running) {
+            insertNow(List.of(pending), "shutdown");
+        } else if (!queue.offer(pending)) {
+            insertNow(List.of(pending), "queue_full");
+        } else if (!running && queue.remove(pending)) {
+            // Shutdown drained the queue between the check and the offer
+            insertNow(List.of(pending), "shutdown");
+        }
+    }
+
+    private void drain() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingNotification> batch) {
+        try {
+            newTransaction.executeWithoutResult(status -> notificationRepository.insertAll(batch));
+            batchSizes.record(batch.size());
+        } catch (RuntimeException e) {
+            // One bad row (e.g. its proposal was deleted meanwhile) must not lose the rest
+            log.warn("⚠️ Notification batch of {} failed, inserting rows one by one: {}", batch.size(), e.getMessage());
+            for (PendingNotification notification : batch) {
+                insertNow(List.of(notification), "batch_error");
+            }
+        }
+    }
+
+    private void insertNow(List<PendingNotification> notifications, String reason) {
+        Counter.builder("notification.writer.fallback")
+                .description("Notifications inserted outside the write-behind batches")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment(notifications.size());
+        try {
+            newTransaction.executeWithoutResult(status -> notificationRepository.insertAll(notifications));
+        } catch (RuntimeException e) {
+            log.error("❌ Failed to insert {} notifications ({})", notifications.size(), reason, e);
+        }
+    }
+}
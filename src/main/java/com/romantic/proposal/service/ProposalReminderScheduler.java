@@ -0,0 +1,159 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.repository.ProposalReminder;
+import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.RetentionKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * "Still no answer" emails to the owners of unanswered proposals.
+ *
+ * <p>Each proposal carries the time its reminder falls due ({@code next_reminder_at}, set by
+ * ProposalService and cleared when it is answered). A tick walks the due ones in keyset
+ * order over their own index, in batches, each batch in its own short transaction, with a
+ * pause between batches and a cap on batches per tick, so the database load of a tick is
+ * bounded however large the backlog.</p>
+ *
+ * <p>A batch is claimed before anything is sent: a conditional UPDATE clears the due time
+ * of each proposal that is still unanswered and due, and only the rows this node updated are
+ * mailed. Any number of nodes can run the scheduler; a proposal is claimed, and so mailed,
+ * at most once. A claimed reminder whose send then fails is not retried.</p>
+ *
+ * <p>Sends are handed to the bounded {@code reminderTaskExecutor}, so a tick spends its time
+ * on the database and never on SMTP, and each batch claims no more reminders than that
+ * queue has room for. While the queue is full the tick stops; the rest stay due for the
+ * next one.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true")
+public class ProposalReminderScheduler {
+
+    private final ProposalRepository proposalRepository;
+    private final EmailService emailService;
+    private final ThreadPoolTaskExecutor reminderTaskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter sent;
+    private final Counter expired;
+    private final Counter rejected;
+
+    @Value("${app.reminders.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.reminders.max-batches:10}")
+    private int maxBatches;
+
+    @Value("${app.reminders.throttle:200ms}")
+    private Duration throttle;
+
+    public ProposalReminderScheduler(ProposalRepository proposalRepository,
+                                     EmailService emailService,
+                                     @Qualifier("reminderTaskExecutor") ThreadPoolTaskExecutor reminderTaskExecutor,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.proposalRepository = proposalRepository;
+        this.emailService = emailService;
+        this.reminderTaskExecutor = reminderTaskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sent = reminders(meterRegistry, "sent");
+        this.expired = reminders(meterRegistry, "expired");
+        this.rejected = reminders(meterRegistry, "rejected");
+    }
+
+    private static Counter reminders(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("proposal.reminders")
+                .description("Claimed proposal reminders, by what became of them")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.reminders.initial-delay:PT1M}",
+            fixedDelayString = "${app.reminders.interval:PT1M}")
+    public void remind() {
+        LocalDateTime now = LocalDateTime.now();
+        RetentionKey cursor = RetentionKey.START;
+        int claimed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int limit = Math.min(batchSize, queueRoom());
+            if (limit == 0) {
+                log.info("💌 Reminder queue full, remaining reminders wait for the next tick");
+                break;
+            }
+            RetentionKey after = cursor;
+            Batch result = transactionTemplate.execute(status -> {
+                List<RetentionKey> due = proposalRepository.findDueReminders(now, after.timestamp(), after.id(), Limit.of(limit));
+                if (due.isEmpty()) {
+                    return new Batch(due, List.of());
+                }
+                List<UUID> won = proposalRepository.claimReminders(due.stream().map(RetentionKey::id).toList(), now);
+                return new Batch(due, won.isEmpty() ? List.of() : proposalRepository.findRemindersByIdIn(won));
+            });
+
+            if (result == null || result.due().isEmpty()) {
+                break;
+            }
+            // Only after the claim has committed: a rolled-back claim must not have mailed anyone
+            result.claimed().forEach(reminder -> send(reminder, now));
+            claimed += result.claimed().size();
+            cursor = result.due().get(result.due().size() - 1);
+
+            if (result.due().size() < limit || !pause()) {
+                break;
+            }
+        }
+
+        if (claimed > 0) {
+            log.info("💌 Reminder tick: {} proposals claimed", claimed);
+        }
+    }
+
+    private void send(ProposalReminder reminder, LocalDateTime now) {
+        // Due before expiry when stamped, but a tick may run late; the claim still retires it
+        if (reminder.expiresAt() != null && now.isAfter(reminder.expiresAt())) {
+            expired.increment();
+            return;
+        }
+        try {
+            emailService.sendProposalReminderEmail(reminder.email(), reminder.shareableLink());
+            sent.increment();
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("⚠️ Mail queue full, reminder for proposal {} dropped", reminder.id());
+        }
+    }
+
+    private int queueRoom() {
+        return reminderTaskExecutor.getQueueCapacity() - reminderTaskExecutor.getQueueSize();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Batch(List<RetentionKey> due, List<ProposalReminder> claimed) {
+    }
+}
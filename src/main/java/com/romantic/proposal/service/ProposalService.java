@@ -1,23 +1,26 @@
 package com.romantic.proposal.service;
 
+import com.romantic.proposal.datasource.ReadYourWrites;
 import com.romantic.proposal.dto.ProposalResponse;
 import com.romantic.proposal.dto.RespondRequest;
+import com.romantic.proposal.dto.RespondResponse;
 import com.romantic.proposal.dto.StatusResponse;
 import com.romantic.proposal.entity.Notification;
 import com.romantic.proposal.entity.Proposal;
 import com.romantic.proposal.entity.User;
 import com.romantic.proposal.exception.ProposalAlreadyAnsweredException;
+import com.romantic.proposal.exception.ProposalExpiredException;
 import com.romantic.proposal.exception.ProposalNotFoundException;
-import com.romantic.proposal.repository.NotificationRepository;
 import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.ProposalStatusRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -26,24 +29,40 @@ import java.util.UUID;
 public class ProposalService {
 
     private final ProposalRepository proposalRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationWriter notificationWriter;
+    private final ProposalViewCounter proposalViewCounter;
     private final EmailService emailService;
+    private final ReadYourWrites readYourWrites;
+
+    // How long a shared link stays respondable; zero or negative disables expiry
+    @Value("${app.proposal.expiration:30d}")
+    private Duration proposalExpiration;
+
+    // How long after creation an unanswered proposal's owner is reminded; zero or negative sends none
+    @Value("${app.reminders.delay:3d}")
+    private Duration reminderDelay;
 
     /**
      * Create a new proposal with a unique shareable link.
      */
     @Transactional
     public ProposalResponse createProposal(User user, String frontendUrl) {
-        String uniqueToken = UUID.randomUUID().toString().replace("-", "");
+        String uniqueToken = newProposalToken();
         String shareableLink = frontendUrl + "?proposal=" + uniqueToken;
 
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = proposalExpiration.isNegative() || proposalExpiration.isZero() ? null : now.plus(proposalExpiration);
+
         Proposal proposal = Proposal.builder()
                 .user(user)
                 .uniqueToken(uniqueToken)
                 .shareableLink(shareableLink)
+                .expiresAt(expiresAt)
+                .nextReminderAt(reminderDue(now, expiresAt))
                 .build();
 
         proposal = proposalRepository.save(proposal);
+        readYourWrites.recordWrite(user.getEmail());
 
         log.info("✅ Creating proposal with link: {}", shareableLink);
         log.info("📝 Proposal ID: {}, User: {}", proposal.getId(), user.getEmail());
@@ -53,18 +72,34 @@ public class ProposalService {
                 .uniqueToken(proposal.getUniqueToken())
                 .shareableLink(proposal.getShareableLink())
                 .createdAt(proposal.getCreatedAt().toString())
+                .expiresAt(proposal.getExpiresAt() != null ? proposal.getExpiresAt().toString() : null)
                 .build();
     }
 
+    // No reminder when disabled, or when it would only fall due once the link has expired
+    private LocalDateTime reminderDue(LocalDateTime now, LocalDateTime expiresAt) {
+        if (reminderDelay.isNegative() || reminderDelay.isZero()) {
+            return null;
+        }
+        LocalDateTime due = now.plus(reminderDelay);
+        return expiresAt != null && !due.isBefore(expiresAt) ? null : due;
+    }
+
+    // Unguessable share token: a random UUID without dashes (32 hex characters)
+    static String newProposalToken() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
     /**
      * Respond to an existing proposal.
      */
     @Transactional
-    public Map<String, String> respondToProposal(String uniqueToken, RespondRequest request) {
+    public RespondResponse respondToProposal(String uniqueToken, RespondRequest request) {
         log.info("📬 Processing response for proposal token: {}", uniqueToken);
         log.info("Response: {}", request.getResponse());
 
-        Proposal proposal = proposalRepository.findByUniqueToken(uniqueToken)
+        // Locked, uncached read: two concurrent answers (or a stale cache on another node) must not both succeed
+        Proposal proposal = proposalRepository.findByUniqueTokenForUpdate(uniqueToken)
                 .orElseThrow(() -> new ProposalNotFoundException("Invalid proposal token"));
 
         if (proposal.getResponse() != null) {
@@ -72,10 +107,17 @@ public class ProposalService {
             throw new ProposalAlreadyAnsweredException("This proposal has already been answered");
         }
 
+        if (proposal.isExpired(LocalDateTime.now())) {
+            log.info("⌛ Proposal expired: {}", uniqueToken);
+            throw new ProposalExpiredException("This proposal has expired");
+        }
+
         Proposal.ProposalResponse response = Proposal.ProposalResponse.valueOf(request.getResponse());
         proposal.setResponse(response);
         proposal.setRespondedAt(LocalDateTime.now());
+        proposal.setNextReminderAt(null);
         proposalRepository.save(proposal);
+        readYourWrites.recordWrite(proposal.getUser().getEmail());
 
         log.info("✅ Proposal response saved: {}", response);
 
@@ -86,7 +128,7 @@ public class ProposalService {
                 .user(proposal.getUser())
                 .message(notificationMessage)
                 .build();
-        notificationRepository.save(notification);
+        notificationWriter.save(notification);
 
         log.info("🔔 Notification created for user: {}", proposal.getUser().getEmail());
 
@@ -100,7 +142,7 @@ public class ProposalService {
                     proposal.getShareableLink()
             );
 
-            log.info("✅ Email notification sent successfully to: {}", proposal.getUser().getEmail());
+            log.info("✅ Email notification dispatched to: {}", proposal.getUser().getEmail());
         } catch (Exception e) {
             log.error("❌ Failed to send email notification to: {}", proposal.getUser().getEmail(), e);
             log.error("Error details: {}", e.getMessage());
@@ -109,39 +151,60 @@ public class ProposalService {
 
         log.info("✅ Proposal responded: {}", request.getResponse());
 
-        Map<String, String> responseMap = new HashMap<>();
-        responseMap.put("message", "Response recorded successfully");
-        responseMap.put("status", "success");
+        return RespondResponse.RECORDED;
+    }
+
+    /**
+     * Count an open of the shareable link. Only opens before the proposal is answered
+     * (and while it can still be answered) are counted.
+     */
+    @Transactional(readOnly = true)
+    public void recordView(String uniqueToken) {
+        Proposal proposal = proposalRepository.findByUniqueToken(uniqueToken)
+                .orElseThrow(() -> new ProposalNotFoundException("Invalid proposal token"));
 
-        return responseMap;
+        if (proposal.getResponse() == null && !proposal.isExpired(LocalDateTime.now())) {
+            proposalViewCounter.recordView(proposal.getId());
+        }
     }
 
     /**
      * Get the current status of a proposal.
      */
+    @Transactional(readOnly = true)
     public StatusResponse getProposalStatus(UUID proposalId, User user) {
         log.info("🔍 Fetching proposal status for ID: {}, User: {}", proposalId, user.getEmail());
 
-        Proposal proposal = proposalRepository.findByIdAndUser(proposalId, user)
+        Proposal proposal = readYourWrites.read(user.getEmail(), () -> proposalRepository.findByIdAndUser(proposalId, user))
                 .orElseThrow(() -> new ProposalNotFoundException("Proposal not found"));
 
-        boolean answered = proposal.getResponse() != null;
-        String response = answered ? proposal.getResponse().name() : null;
-        String notification = answered ? getNotificationMessage(proposal.getResponse()) : null;
+        log.info("📊 Proposal status - Answered: {}, Response: {}", proposal.getResponse() != null, proposal.getResponse());
 
-        log.info("📊 Proposal status - Answered: {}, Response: {}", answered, response);
+        return statusResponse(new ProposalStatusRow(proposal.getId(), proposal.getResponse(), proposal.getRespondedAt(),
+                proposal.getExpiresAt(), proposal.getViewCount()), proposalViewCounter);
+    }
 
+    /**
+     * The status body for a proposal's columns, shared with the R2DBC read path so both
+     * stacks answer a poll with the same bytes (and the same ETag).
+     */
+    static StatusResponse statusResponse(ProposalStatusRow row, ProposalViewCounter viewCounter) {
+        boolean answered = row.response() != null;
         return StatusResponse.builder()
                 .answered(answered)
-                .response(response)
-                .notification(notification)
+                .expired(Proposal.isExpired(row.response(), row.expiresAt(), LocalDateTime.now()))
+                .response(answered ? row.response().name() : null)
+                .notification(answered ? getNotificationMessage(row.response()) : null)
+                .proposalId(row.id().toString())
+                .answeredAt(row.respondedAt())
+                .viewCount(row.viewCount() + viewCounter.pendingViews(row.id()))
                 .build();
     }
 
     /**
      * Helper method to get notification message based on response.
      */
-    private String getNotificationMessage(Proposal.ProposalResponse response) {
+    private static String getNotificationMessage(Proposal.ProposalResponse response) {
         return response == Proposal.ProposalResponse.YES
                 ? "Congratulations!! I am so, so happy for you! You totally deserve this."
                 : "It's okay to feel disappointed/sad/angry. Take all the time you need to process it.";
@@ -0,0 +1,111 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.repository.ProposalRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts shareable-link opens in memory and writes them out in bulk.
+ *
+ * <p>A view is a {@link LongAdder} increment, so concurrent opens of a viral link do not
+ * contend, and no request ever updates the proposal row. Every
+ * {@code app.proposal.views.flush-interval} the accumulated deltas are applied with one
+ * batched UPDATE. Counts read in between add the pending delta to the stored value.</p>
+ */
+@Slf4j
+@Service
+public class ProposalViewCounter {
+
+    private final ProposalRepository proposalRepository;
+    private final Map<UUID, ViewCount> pending = new ConcurrentHashMap<>();
+
+    public ProposalViewCounter(ProposalRepository proposalRepository) {
+        this.proposalRepository = proposalRepository;
+    }
+
+    public void recordView(UUID proposalId) {
+        ViewCount views = pending.computeIfAbsent(proposalId, id -> new ViewCount());
+        views.increment();
+        if (views.retiring) {
+            // flush() was dropping this counter as idle. Its decision is made under the map's lock:
+            // wait for it, and if the counter is gone, move what is left on it to its successor
+            pending.compute(proposalId, (id, current) -> {
+                if (current == views) {
+                    return current;
+                }
+                long stray = views.sumThenReset();
+                ViewCount next = current == null ? new ViewCount() : current;
+                next.add(stray);
+                return stray == 0 && current == null ? null : next;
+            });
+        }
+    }
+
+    /**
+     * Views recorded since the last flush.
+     */
+    public long pendingViews(UUID proposalId) {
+        LongAdder views = pending.get(proposalId);
+        return views == null ? 0 : views.sum();
+    }
+
+    /**
+     * Applies and resets all pending deltas. {@code sumThenReset} moves every increment to
+     * exactly one flush. A counter that stayed idle for a whole interval is dropped from the
+     * map, but only if it is still at zero once marked {@code retiring}; a view that lands on
+     * it after that is moved to a fresh counter by recordView. If the write fails the deltas
+     * are put back for the next run.
+     */
+    @Scheduled(initialDelayString = "${app.proposal.views.flush-interval:PT10S}",
+            fixedDelayString = "${app.proposal.views.flush-interval:PT10S}")
+    public synchronized void flush() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        pending.forEach((id, views) -> {
+            long delta = views.sumThenReset();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            } else {
+                pending.computeIfPresent(id, (key, current) -> {
+                    // Marked before the check, so a view after the check sees the mark
+                    current.retiring = true;
+                    if (current.sum() == 0) {
+                        return null;
+                    }
+                    current.retiring = false;
+                    return current;
+                });
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            proposalRepository.addViewCounts(deltas);
+            log.debug("👀 Flushed view counts for {} proposals", deltas.size());
+        } catch (DataAccessException e) {
+            log.warn("⚠️ View count flush for {} proposals failed, retrying next interval: {}", deltas.size(), e.getMessage());
+            deltas.forEach((id, delta) -> pending.computeIfAbsent(id, key -> new ViewCount()).add(delta));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class ViewCount extends LongAdder {
+
+        // Set by flush() while it decides whether to drop the counter, and left set if it does
+        volatile boolean retiring;
+    }
+}
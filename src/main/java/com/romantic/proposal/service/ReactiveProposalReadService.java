@@ -0,0 +1,34 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.dto.StatusResponse;
+import com.romantic.proposal.exception.ProposalNotFoundException;
+import com.romantic.proposal.repository.ReactiveProposalReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * The status poll on the R2DBC stack: one query, no thread or connection held while it is
+ * in flight. Answers exactly what {@link ProposalService#getProposalStatus} answers.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.reactive-reads.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveProposalReadService {
+
+    private final ReactiveProposalReadRepository reactiveProposalReadRepository;
+    private final ProposalViewCounter proposalViewCounter;
+
+    public Mono<StatusResponse> getProposalStatus(UUID proposalId, String email) {
+        log.debug("🔍 Fetching proposal status (reactive) for ID: {}, User: {}", proposalId, email);
+
+        return reactiveProposalReadRepository.findStatus(proposalId, AuthService.normalizeEmail(email))
+                .switchIfEmpty(Mono.error(() -> new ProposalNotFoundException("Proposal not found")))
+                .map(row -> ProposalService.statusResponse(row, proposalViewCounter));
+    }
+}
@@ -0,0 +1,132 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.repository.NotificationRepository;
+import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.RetentionKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Background retention for the two ever-growing tables.
+ *
+ * <p>Expired, unanswered proposals are archived (or deleted) and read notifications past
+ * their maximum age are deleted. Work is done in keyset-paginated batches, each batch in
+ * its own short transaction, with a pause between batches and a cap on batches per run,
+ * so a sweep never holds long locks or produces a burst of WAL for replicas to replay.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.retention.enabled", havingValue = "true")
+public class RetentionSweeper {
+
+    public enum ProposalMode { ARCHIVE, DELETE }
+
+    private final ProposalRepository proposalRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.retention.max-batches:100}")
+    private int maxBatches;
+
+    @Value("${app.retention.throttle:200ms}")
+    private Duration throttle;
+
+    @Value("${app.retention.proposal-mode:ARCHIVE}")
+    private ProposalMode proposalMode;
+
+    @Value("${app.retention.notification-max-age:90d}")
+    private Duration notificationMaxAge;
+
+    public RetentionSweeper(ProposalRepository proposalRepository,
+                            NotificationRepository notificationRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.proposalRepository = proposalRepository;
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.retention.initial-delay:PT1M}",
+            fixedDelayString = "${app.retention.interval:PT15M}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int proposals = sweepInBatches(
+                (cursor, limit) -> proposalRepository.findExpiredUnanswered(now, cursor.timestamp(), cursor.id(), limit),
+                ids -> proposalMode == ProposalMode.ARCHIVE
+                        ? archiveProposals(ids, now)
+                        : proposalRepository.deleteUnansweredByIdIn(ids));
+
+        int notifications = sweepInBatches(
+                (cursor, limit) -> notificationRepository.findReadCreatedBefore(
+                        now.minus(notificationMaxAge), cursor.timestamp(), cursor.id(), limit),
+                notificationRepository::deleteByIdIn);
+
+        if (proposals > 0 || notifications > 0) {
+            log.info("🧹 Retention sweep: {} expired proposals {}, {} read notifications deleted",
+                    proposals, proposalMode == ProposalMode.ARCHIVE ? "archived" : "deleted", notifications);
+        }
+    }
+
+    private int archiveProposals(List<UUID> ids, LocalDateTime now) {
+        proposalRepository.archiveUnansweredByIdIn(ids, now);
+        return proposalRepository.deleteUnansweredByIdIn(ids);
+    }
+
+    /**
+     * Walks the candidates in key order, handling one batch per transaction. The cursor
+     * advances past every candidate seen, so rows that were skipped (e.g. answered in the
+     * meantime) are never revisited within the same run.
+     */
+    private int sweepInBatches(BiFunction<RetentionKey, Limit, List<RetentionKey>> nextBatch,
+                               Function<List<UUID>, Integer> removeBatch) {
+        RetentionKey cursor = RetentionKey.START;
+        int[] removed = {0};
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            RetentionKey after = cursor;
+            List<RetentionKey> keys = transactionTemplate.execute(status -> {
+                List<RetentionKey> found = nextBatch.apply(after, Limit.of(batchSize));
+                if (!found.isEmpty()) {
+                    removed[0] += removeBatch.apply(found.stream().map(RetentionKey::id).toList());
+                }
+                return found;
+            });
+
+            if (keys == null || keys.isEmpty()) {
+                break;
+            }
+            cursor = keys.get(keys.size() - 1);
+
+            if (keys.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        return removed[0];
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.romantic.proposal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.dto.UserImportResult;
+import com.romantic.proposal.dto.UserImportSummary;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.entity.UuidV7;
+import com.romantic.proposal.exception.InvalidImportFileException;
+import com.romantic.proposal.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * Bulk user import from CSV or NDJSON.
+ *
+ * <p>The upload is read line by line and handled in batches of {@code app.import.batch-size}
+ * rows: validate, hash the passwords in parallel on a dedicated, bounded pool (BCrypt is
+ * the cost of an import), then insert the batch with one JDBC batch statement that skips
+ * taken emails. Each batch's results are handed to the caller before the next batch is
+ * read, so memory stays flat however large the file is.</p>
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool hashingPool;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             ObjectMapper objectMapper,
+                             @Value("${app.import.hash-parallelism:0}") int hashParallelism) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        // Kept apart from the common pool so an import cannot starve parallel streams elsewhere
+        this.hashingPool = new ForkJoinPool(hashParallelism > 0
+                ? hashParallelism
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashingPool.shutdownNow();
+    }
+
+    /**
+     * Imports every row of {@code reader}, passing each batch's results to {@code results}
+     * in file order. A CSV file starts with a header naming at least the {@code email} and
+     * {@code password} columns; an NDJSON file has one object per line with the same fields.
+     */
+    public UserImportSummary importUsers(BufferedReader reader, Format format,
+                                         Consumer<List<UserImportResult>> results) throws IOException {
+        long lineNumber = 0;
+        CsvColumns columns = null;
+        if (format == Format.CSV) {
+            columns = CsvColumns.of(reader.readLine());
+            lineNumber++;
+        }
+
+        Tally tally = new Tally();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(columns != null ? columns.parse(lineNumber, line) : parseJson(lineNumber, line));
+            if (batch.size() == batchSize) {
+                results.accept(tally.count(importBatch(batch)));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            results.accept(tally.count(importBatch(batch)));
+        }
+
+        UserImportSummary summary = tally.summary();
+        log.info("📥 User import: {} rows, {} created, {} duplicates, {} invalid, {} failed",
+                summary.rows(), summary.created(), summary.duplicates(), summary.invalid(), summary.failed());
+        return summary;
+    }
+
+    private List<UserImportResult> importBatch(List<ImportRow> batch) {
+        List<ImportRow> valid = batch.stream().filter(row -> row.error() == null).toList();
+
+        List<ForkJoinTask<String>> hashes = valid.stream()
+                .map(row -> hashingPool.submit(() -> passwordEncoder.encode(row.password())))
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            ImportRow row = valid.get(i);
+            users.add(User.builder()
+                    .id(UuidV7.next())
+                    .email(row.email())
+                    .password(hashes.get(i).join())
+                    .name(row.name())
+                    .createdAt(now)
+                    .build());
+        }
+
+        int[] counts = null;
+        if (!users.isEmpty()) {
+            try {
+                counts = userRepository.insertIgnoringDuplicates(users);
+            } catch (DataAccessException e) {
+                log.warn("⚠️ User import batch of {} rows failed: {}", users.size(), e.getMessage());
+            }
+        }
+
+        List<UserImportResult> results = new ArrayList<>(batch.size());
+        int next = 0;
+        for (ImportRow row : batch) {
+            if (row.error() != null) {
+                results.add(new UserImportResult(row.line(), row.email(), INVALID, row.error()));
+            } else if (counts == null) {
+                results.add(new UserImportResult(row.line(), row.email(), FAILED, "Batch insert failed"));
+            } else {
+                // 0 means the email was taken; a driver that reports no count is taken as inserted
+                String status = counts[next++] == 0 ? DUPLICATE : CREATED;
+                results.add(new UserImportResult(row.line(), row.email(), status, null));
+            }
+        }
+        return results;
+    }
+
+    private ImportRow parseJson(long line, String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return ImportRow.invalid(line, null, "Malformed JSON");
+        }
+        if (!node.isObject()) {
+            return ImportRow.invalid(line, null, "Expected a JSON object");
+        }
+        return ImportRow.of(line, text(node, "email"), text(node, "password"), text(node, "name"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static final class Tally {
+        private long rows, created, duplicates, invalid, failed;
+
+        List<UserImportResult> count(List<UserImportResult> results) {
+            for (UserImportResult result : results) {
+                switch (result.status()) {
+                    case CREATED -> created++;
+                    case DUPLICATE -> duplicates++;
+                    case INVALID -> invalid++;
+                    default -> failed++;
+                }
+            }
+            rows += results.size();
+            return results;
+        }
+
+        UserImportSummary summary() {
+            return new UserImportSummary(rows, created, duplicates, invalid, failed);
+        }
+    }
+
+    private record ImportRow(long line, String email, String password, String name, String error) {
+
+        static ImportRow invalid(long line, String email, String error) {
+            return new ImportRow(line, email, null, null, error);
+        }
+
+        static ImportRow of(long line, String rawEmail, String password, String name) {
+            String email = AuthService.normalizeEmail(rawEmail);
+            if (!AuthService.isValidEmail(email) || email.length() > MAX_EMAIL_LENGTH) {
+                return invalid(line, email, "Invalid email format");
+            }
+            if (password == null || password.isBlank() || password.length() < MIN_PASSWORD_LENGTH) {
+                return invalid(line, email, "Password must be at least 8 characters");
+            }
+            if (name != null && name.length() > MAX_NAME_LENGTH) {
+                return invalid(line, email, "Name must be less than 100 characters");
+            }
+            return new ImportRow(line, email, password, name == null || name.isEmpty() ? null : name, null);
+        }
+    }
+
+    /**
+     * Column positions taken from the CSV header. Fields follow RFC 4180 quoting, except
+     * that a quoted field cannot span lines.
+     */
+    private record CsvColumns(int email, int password, int name) {
+
+        static CsvColumns of(String header) {
+            if (header == null) {
+                throw new InvalidImportFileException("CSV file is empty");
+            }
+            // Spreadsheet exports often start with a byte order mark
+            String[] columns = split(header.replace("\uFEFF", ""));
+            if (columns == null) {
+                throw new InvalidImportFileException("Malformed CSV header");
+            }
+            List<String> names = Arrays.stream(columns)
+                    .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            if (!names.contains("email") || !names.contains("password")) {
+                throw new InvalidImportFileException("CSV header must name the email and password columns");
+            }
+            return new CsvColumns(names.indexOf("email"), names.indexOf("password"), names.indexOf("name"));
+        }
+
+        ImportRow parse(long line, String text) {
+            String[] fields = split(text);
+            if (fields == null) {
+                return ImportRow.invalid(line, null, "Unterminated quoted field");
+            }
+            return ImportRow.of(line, field(fields, email), field(fields, password), field(fields, name));
+        }
+
+        private static String field(String[] fields, int index) {
+            return index >= 0 && index < fields.length ? fields[index] : null;
+        }
+
+        private static String[] split(String text) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields.toArray(String[]::new);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.romantic.proposal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.dto.LoginResponse;
+import com.romantic.proposal.dto.RegisterRequest;
+import com.romantic.proposal.dto.StatusResponse;
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.UserRepository;
+import com.romantic.proposal.security.JwtUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the hot paths once at startup, before the instance reports ready.
+ *
+ * <p>Application runners run after the web server has started but before readiness flips
+ * to {@code ACCEPTING_TRAFFIC}, so {@code /actuator/health/readiness} answers
+ * {@code OUT_OF_SERVICE} until this returns and the load balancer keeps traffic away from
+ * a cold JVM. Each round signs and parses a JWT, serializes the common responses, renders
+ * both email templates, and writes and reads a throwaway user and proposal in a
+ * transaction that is always rolled back. When a port is bound, a few read-only requests
+ * that end in 401/404 also warm the filter chain, MVC dispatch and the error path (every
+ * {@code http-every} rounds). BCrypt runs every {@code bcrypt-every} rounds: one hash
+ * already takes ~100 ms.</p>
+ *
+ * <p>Rounds are grouped in windows of {@code window} rounds. Warm-up stops once the JIT
+ * compiled for less than {@code stable-compile-time} in {@code stable-windows}
+ * consecutive windows, or when the time budget or round limit is hit. Failures are
+ * logged and never keep the instance from becoming ready.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final String WARMUP_DOMAIN = "@warmup.invalid";
+
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final ProposalRepository proposalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.warmup.budget:PT30S}")
+    private Duration budget;
+
+    @Value("${app.warmup.max-rounds:5000}")
+    private int maxRounds;
+
+    @Value("${app.warmup.window:50}")
+    private int window;
+
+    @Value("${app.warmup.stable-compile-time:20ms}")
+    private Duration stableCompileTime;
+
+    @Value("${app.warmup.stable-windows:3}")
+    private int stableWindows;
+
+    @Value("${app.warmup.bcrypt-every:100}")
+    private int bcryptEvery;
+
+    @Value("${app.warmup.http-every:10}")
+    private int httpEvery;
+
+    private volatile long rounds;
+    private volatile long durationNanos;
+
+    public WarmUpRunner(JwtUtil jwtUtil,
+                        PasswordEncoder passwordEncoder,
+                        ObjectMapper objectMapper,
+                        UserRepository userRepository,
+                        ProposalRepository proposalRepository,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        Environment environment,
+                        MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.proposalRepository = proposalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Already the state before startup completes; published so the intent is explicit
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean canTrackJit = jit != null && jit.isCompilationTimeMonitoringSupported();
+        HttpClient http = localPort() > 0 ? HttpClient.newHttpClient() : null;
+
+        String completion = "budget";
+        try {
+            long compileMillis = canTrackJit ? jit.getTotalCompilationTime() : 0;
+            int quietWindows = 0;
+            while (System.nanoTime() < deadline) {
+                if (rounds >= maxRounds) {
+                    completion = "max-rounds";
+                    break;
+                }
+                for (int i = 0; i < window; i++) {
+                    round(http);
+                }
+
+                if (canTrackJit) {
+                    long compiled = jit.getTotalCompilationTime();
+                    quietWindows = compiled - compileMillis < stableCompileTime.toMillis() ? quietWindows + 1 : 0;
+                    compileMillis = compiled;
+                    if (quietWindows >= stableWindows) {
+                        completion = "stable";
+                        break;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            completion = "failed";
+            log.warn("⚠️ Warm-up stopped after {} rounds: {}", rounds, e.getMessage());
+        }
+        durationNanos = System.nanoTime() - start;
+
+        TimeGauge.builder("warmup.duration", this, TimeUnit.NANOSECONDS, runner -> runner.durationNanos)
+                .description("Time spent warming up before reporting ready")
+                .tag("completion", completion)
+                .register(meterRegistry);
+        Gauge.builder("warmup.rounds", this, runner -> runner.rounds)
+                .description("Warm-up rounds run before reporting ready")
+                .tag("completion", completion)
+                .register(meterRegistry);
+        log.info("🔥 Warm-up finished ({}): {} rounds in {} ms", completion, rounds,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    private void round(HttpClient http) throws Exception {
+        long round = rounds++;
+        String email = "warmup-" + UUID.randomUUID() + WARMUP_DOMAIN;
+
+        String token = jwtUtil.generateToken(email);
+        jwtUtil.validateToken(token, jwtUtil.extractEmail(token));
+
+        objectMapper.readValue(objectMapper.writeValueAsBytes(
+                new RegisterRequest(email, "warm-up-password", "Warm Up")), RegisterRequest.class);
+        objectMapper.writeValueAsBytes(LoginResponse.builder().token(token).userId(email).email(email).build());
+        objectMapper.writeValueAsBytes(StatusResponse.builder().proposalId(email).answeredAt(LocalDateTime.now()).build());
+
+        EmailService.buildPositiveHtmlEmail("http://localhost/?proposal=" + round);
+        EmailService.buildNegativeHtmlEmail("http://localhost/?proposal=" + round);
+
+        if (round % bcryptEvery == 0) {
+            passwordEncoder.matches("warm-up-password", passwordEncoder.encode("warm-up-password"));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            User user = userRepository.saveAndFlush(User.builder()
+                    .email(email)
+                    .password("not-a-hash")
+                    .build());
+            Proposal proposal = proposalRepository.saveAndFlush(Proposal.builder()
+                    .user(user)
+                    .uniqueToken(ProposalService.newProposalToken())
+                    .shareableLink("http://localhost/")
+                    .build());
+            userRepository.findByEmail(email);
+            proposalRepository.findByUniqueToken(proposal.getUniqueToken());
+            proposalRepository.findByUniqueTokenForUpdate(proposal.getUniqueToken());
+            proposalRepository.findByIdAndUser(proposal.getId(), user);
+        });
+
+        if (http != null && round % httpEvery == 0) {
+            String base = "http://localhost:" + localPort();
+            String missingToken = ProposalService.newProposalToken();
+            send(http, HttpRequest.newBuilder(URI.create(base + "/api/proposal/" + missingToken + "/view"))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            send(http, HttpRequest.newBuilder(URI.create(base + "/api/proposal/" + UUID.randomUUID() + "/status"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET());
+            send(http, HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + email + "\",\"password\":\"warm-up-password\"}")));
+        }
+    }
+
+    private static void send(HttpClient http, HttpRequest.Builder request) throws Exception {
+        http.send(request.timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private int localPort() {
+        return environment.getProperty("local.server.port", Integer.class, 0);
+    }
+}
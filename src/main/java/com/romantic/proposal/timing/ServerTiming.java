@@ -0,0 +1,83 @@
+package com.romantic.proposal.timing;
+
+import java.util.Arrays;
+
+/**
+ * Request-scoped phase timer behind the {@code Server-Timing} header.
+ *
+ * <p>Each thread owns one small {@code long[]}: an accumulated duration and an open-interval
+ * start per phase, plus the request start that doubles as the "active" flag. While no
+ * timed request is running on the thread, {@link #begin} and {@link #end} are a thread-local
+ * read and a compare, so the hooks can stay in place on every hot path.</p>
+ */
+public final class ServerTiming {
+
+    public enum Phase {
+        JWT("jwt"), DB("db"), BCRYPT("bcrypt"), MAIL("mail"), SERIALIZE("serialize");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    // [2 * phase] accumulated nanos, [2 * phase + 1] start of the open interval, [REQUEST_START] 0 when inactive
+    private static final int REQUEST_START = 2 * PHASES.length;
+
+    private static final ThreadLocal<long[]> SLOTS = ThreadLocal.withInitial(() -> new long[REQUEST_START + 1]);
+
+    private ServerTiming() {
+    }
+
+    public static void begin(Phase phase) {
+        long[] slots = SLOTS.get();
+        if (slots[REQUEST_START] != 0) {
+            slots[2 * phase.ordinal() + 1] = System.nanoTime();
+        }
+    }
+
+    public static void end(Phase phase) {
+        long[] slots = SLOTS.get();
+        int index = 2 * phase.ordinal();
+        if (slots[REQUEST_START] != 0 && slots[index + 1] != 0) {
+            slots[index] += System.nanoTime() - slots[index + 1];
+            slots[index + 1] = 0;
+        }
+    }
+
+    static void start() {
+        long[] slots = SLOTS.get();
+        Arrays.fill(slots, 0);
+        slots[REQUEST_START] = System.nanoTime();
+    }
+
+    static void stop() {
+        SLOTS.get()[REQUEST_START] = 0;
+    }
+
+    /**
+     * Renders the phases recorded so far as a header value, e.g.
+     * {@code jwt;dur=0.41, db;dur=3.2, total;dur=12.75}. Phases that never ran are omitted.
+     */
+    static String render() {
+        long[] slots = SLOTS.get();
+        StringBuilder value = new StringBuilder(96);
+        for (Phase phase : PHASES) {
+            long nanos = slots[2 * phase.ordinal()];
+            if (nanos > 0) {
+                appendMetric(value, phase.metricName, nanos);
+            }
+        }
+        return appendMetric(value, "total", System.nanoTime() - slots[REQUEST_START]).toString();
+    }
+
+    private static StringBuilder appendMetric(StringBuilder value, String name, long nanos) {
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        return value.append(name).append(";dur=").append(Math.round(nanos / 10_000.0) / 100.0);
+    }
+}
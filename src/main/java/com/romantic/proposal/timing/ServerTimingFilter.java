@@ -0,0 +1,191 @@
+package com.romantic.proposal.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Times a request phase by phase and reports it as a {@code Server-Timing} header plus one
+ * log record per request.
+ *
+ * <p>Timing is on for every request when {@code app.server-timing.enabled} is set, or per
+ * request when {@code app.server-timing.admin-token} is configured and the caller sends it
+ * in {@value #ADMIN_HEADER}. Otherwise the request passes straight through. Headers cannot
+ * change once the body starts flowing, so the response is wrapped and the header is added
+ * right before the first byte, which is also where the serialize phase ends.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+    static final String ADMIN_HEADER = "X-Server-Timing-Token";
+
+    private final boolean enabled;
+    private final byte[] adminToken;
+
+    public ServerTimingFilter(@Value("${app.server-timing.enabled:false}") boolean enabled,
+                              @Value("${app.server-timing.admin-token:}") String adminToken) {
+        this.enabled = enabled;
+        this.adminToken = adminToken.isEmpty() ? null : adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled && !adminRequested(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TimedResponse timedResponse = new TimedResponse(response);
+        ServerTiming.start();
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            String timings = timedResponse.emitHeader();
+            ServerTiming.stop();
+            log.info("⏱️ {} {} -> {} [{}]", request.getMethod(), routeOf(request), response.getStatus(), timings);
+        }
+    }
+
+    private boolean adminRequested(HttpServletRequest request) {
+        if (adminToken == null) {
+            return false;
+        }
+        String supplied = request.getHeader(ADMIN_HEADER);
+        return supplied != null && MessageDigest.isEqual(adminToken, supplied.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Matched route pattern rather than the raw URI, which may carry a proposal token
+    private static Object routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern : "-";
+    }
+
+    /**
+     * Adds the header at the last moment it can still be sent: the first write, flush or
+     * error/redirect, or the end of the request when no body was written at all.
+     */
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+
+        private String timings;
+        private ServletOutputStream outputStream;
+
+        TimedResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        String emitHeader() {
+            if (timings == null) {
+                ServerTiming.end(ServerTiming.Phase.SERIALIZE);
+                timings = ServerTiming.render();
+                if (!isCommitted()) {
+                    setHeader(HEADER, timings);
+                }
+            }
+            return timings;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new TimedOutputStream(super.getOutputStream(), this);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            emitHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            emitHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            emitHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            emitHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            emitHeader();
+            super.sendRedirect(location);
+        }
+    }
+
+    private static final class TimedOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final TimedResponse response;
+
+        TimedOutputStream(ServletOutputStream delegate, TimedResponse response) {
+            this.delegate = delegate;
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            response.emitHeader();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            response.emitHeader();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            response.emitHeader();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            response.emitHeader();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
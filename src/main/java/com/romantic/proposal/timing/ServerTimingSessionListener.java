@@ -0,0 +1,51 @@
+package com.romantic.proposal.timing;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Feeds JDBC time into the db phase: connection checkout, statement preparation and
+ * execution, including the inserts and updates issued by flush at commit. Hibernate
+ * creates one per session (see {@code hibernate.session.events.auto}).
+ */
+public class ServerTimingSessionListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        ServerTiming.begin(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        ServerTiming.end(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        ServerTiming.begin(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        ServerTiming.end(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        ServerTiming.begin(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ServerTiming.end(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        ServerTiming.begin(ServerTiming.Phase.DB);
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ServerTiming.end(ServerTiming.Phase.DB);
+    }
+}
@@ -0,0 +1,38 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update created before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE users (
+    id         UUID         NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(100),
+    created_at TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE proposals (
+    id             UUID         NOT NULL,
+    user_id        UUID         NOT NULL,
+    unique_token   VARCHAR(255) NOT NULL,
+    shareable_link VARCHAR(500) NOT NULL,
+    response       VARCHAR(10),
+    responded_at   TIMESTAMP(6),
+    created_at     TIMESTAMP(6),
+    CONSTRAINT pk_proposals PRIMARY KEY (id),
+    CONSTRAINT uk_proposals_unique_token UNIQUE (unique_token),
+    CONSTRAINT ck_proposals_response CHECK (response IN ('YES', 'NO')),
+    CONSTRAINT fk_proposals_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE notifications (
+    id          UUID    NOT NULL,
+    proposal_id UUID    NOT NULL,
+    user_id     UUID    NOT NULL,
+    message     TEXT    NOT NULL,
+    is_read     BOOLEAN,
+    created_at  TIMESTAMP(6),
+    CONSTRAINT pk_notifications PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_proposal FOREIGN KEY (proposal_id) REFERENCES proposals (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,15 @@
+-- Proposal expiry and the archive table written by the retention sweeper.
+-- IF NOT EXISTS because databases still on ddl-auto=update may already have both.
+
+ALTER TABLE proposals ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS proposal_archive (
+    id             UUID         NOT NULL,
+    user_id        UUID         NOT NULL,
+    unique_token   VARCHAR(255) NOT NULL,
+    shareable_link VARCHAR(500) NOT NULL,
+    created_at     TIMESTAMP(6),
+    expires_at     TIMESTAMP(6),
+    archived_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_proposal_archive PRIMARY KEY (id)
+);
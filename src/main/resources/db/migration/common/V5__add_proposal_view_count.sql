@@ -0,0 +1,4 @@
+-- How often a shareable link was opened before it was answered. Written only by the
+-- view counter's periodic flush (an increment), never by entity updates.
+
+ALTER TABLE proposals ADD COLUMN view_count BIGINT DEFAULT 0 NOT NULL;
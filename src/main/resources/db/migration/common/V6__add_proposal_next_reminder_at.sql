@@ -0,0 +1,5 @@
+-- When the owner of a still unanswered proposal is due a reminder email. Set on creation,
+-- cleared once the reminder is claimed or the proposal is answered (see ProposalReminderScheduler).
+-- Proposals created before this migration get no reminder.
+
+ALTER TABLE proposals ADD COLUMN next_reminder_at TIMESTAMP(6);
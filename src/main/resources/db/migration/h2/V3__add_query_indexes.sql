@@ -0,0 +1,12 @@
+-- H2 counterpart of postgresql/V3__add_query_indexes.sql.
+-- H2 has no partial indexes: the partial predicates become leading index columns.
+
+CREATE INDEX idx_proposals_user_created ON proposals (user_id, created_at);
+
+CREATE INDEX idx_proposals_expiry ON proposals (expires_at, id);
+
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at);
+
+CREATE INDEX idx_notifications_proposal ON notifications (proposal_id);
+
+CREATE INDEX idx_notifications_read_created ON notifications (is_read, created_at, id);
@@ -0,0 +1,4 @@
+-- H2 counterpart of postgresql/V4__normalize_user_emails.sql.
+UPDATE users SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
+
+ALTER TABLE users ADD CONSTRAINT ck_users_email_normalized CHECK (email = LOWER(TRIM(email)));
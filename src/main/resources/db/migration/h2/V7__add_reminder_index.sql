@@ -0,0 +1,4 @@
+-- H2 counterpart of postgresql/V7__add_reminder_index.sql (no partial index: cleared rows stay
+-- in the index under NULL, before every due timestamp).
+
+CREATE INDEX idx_proposals_next_reminder ON proposals (next_reminder_at, id);
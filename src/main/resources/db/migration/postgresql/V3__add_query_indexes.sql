@@ -0,0 +1,18 @@
+-- One index per repository access path (see RepositoryIndexUsageTest).
+-- CONCURRENTLY so existing production tables are not write-locked while the indexes build;
+-- Flyway runs this migration outside a transaction because of it.
+
+-- Proposals of a user, newest first; also serves the foreign key
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposals_user_created ON proposals (user_id, created_at);
+
+-- RetentionSweeper: expired proposals still waiting for an answer
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposals_expiry ON proposals (expires_at, id) WHERE response IS NULL;
+
+-- NotificationRepository.findByUserOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_created ON notifications (user_id, created_at);
+
+-- Foreign key to proposals (deletes and archive moves check it)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_proposal ON notifications (proposal_id);
+
+-- RetentionSweeper: old read notifications
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_read_created ON notifications (created_at, id) WHERE is_read;
@@ -0,0 +1,9 @@
+-- Emails are stored trimmed and lower-cased (AuthService.normalizeEmail) from now on, so
+-- legacy rows are brought into that form; login looks addresses up by it.
+-- Two legacy accounts that only differ by case or surrounding spaces make this UPDATE fail
+-- on the unique email constraint: they are the same person and must be merged by hand first.
+UPDATE users SET email = lower(trim(email)) WHERE email <> lower(trim(email));
+
+-- With every stored email normalized, the unique constraint on email is case-insensitive:
+-- it detects duplicate registrations and serves the email = ? lookups of login.
+ALTER TABLE users ADD CONSTRAINT ck_users_email_normalized CHECK (email = lower(trim(email)));
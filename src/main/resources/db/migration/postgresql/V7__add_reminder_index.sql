@@ -0,0 +1,5 @@
+-- ProposalReminderScheduler: due reminders in keyset order. Partial, so the index only ever
+-- holds proposals still waiting for their reminder, however many have been answered or reminded.
+-- CONCURRENTLY (and so in a migration of its own): Flyway runs it outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_proposals_next_reminder ON proposals (next_reminder_at, id) WHERE next_reminder_at IS NOT NULL;
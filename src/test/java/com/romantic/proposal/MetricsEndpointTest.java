@@ -0,0 +1,85 @@
+package com.romantic.proposal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.security.AdminTokenFilter;
+import com.romantic.proposal.service.EmailService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives one register/login/create journey and scrapes {@code /actuator/prometheus} with
+ * the metrics token: every hot-path timer must be there with histogram buckets, and no
+ * per-user value (email, JWT, proposal token) may leak into a tag. Without the token the
+ * scrape is refused.
+ */
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.metrics.token=test-metrics-token"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void prometheusScrapeCoversHotPathsWithoutUserData() throws Exception {
+		String email = "metrics-" + System.nanoTime() + "@example.com";
+		String credentials = "{\"email\":\"" + email + "\",\"password\":\"password123\",\"name\":\"M\"}";
+
+		mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk());
+		String login = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		String jwt = objectMapper.readTree(login).get("token").asText();
+
+		String created = mockMvc.perform(post("/api/proposal/create").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode proposal = objectMapper.readTree(created);
+
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/actuator/prometheus").header(AdminTokenFilter.METRICS_HEADER, "wrong"))
+				.andExpect(status().isForbidden());
+		// Neither a user's JWT nor the admin token opens it
+		mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isForbidden());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus").header(AdminTokenFilter.METRICS_HEADER, "test-metrics-token"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(scrape).contains(
+				"http_server_requests_seconds_bucket",
+				"uri=\"/api/proposal/create\"",
+				"jwt_operations_seconds_bucket",
+				"operation=\"parse\"",
+				"password_encoder_seconds_bucket",
+				"operation=\"matches\"",
+				"spring_data_repository_invocations_seconds_bucket",
+				"hikaricp_connections",
+				"jvm_gc_");
+		assertThat(scrape).doesNotContain(email, jwt, proposal.get("uniqueToken").asText());
+	}
+}
@@ -1,13 +1,25 @@
 package com.romantic.proposal;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class ProposalAppApplicationTests {
 
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private AsyncTaskExecutor applicationTaskExecutor;
+
 	@Test
 	void contextLoads() {
+		// The mail executor must not displace Boot's bounded pool for @Async and MVC async requests
+		assertThat(applicationTaskExecutor).isInstanceOf(ThreadPoolTaskExecutor.class);
 	}
 
 }
@@ -0,0 +1,102 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.security.AdminTokenFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.admin.token=test-admin-token",
+		"app.import.batch-size=2",
+		"app.import.hash-parallelism=2"
+})
+@AutoConfigureMockMvc
+class AdminImportTest {
+
+	private static final String IMPORT = "/api/admin/users/import";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void csvImportCreatesUsersSkipsDuplicatesAndReportsEveryRow() throws Exception {
+		String id = String.valueOf(System.nanoTime());
+		String csv = "email,name,password\n"
+				+ "a" + id + "@example.com,Alice,password123\n"
+				+ "\"B" + id + "@Example.com\",\"Bob, Jr.\",password123\n"
+				+ "A" + id + "@example.com,Alice again,password123\n"
+				+ "not-an-email,Nobody,password123\n"
+				+ "c" + id + "@example.com,Carol,short\n";
+
+		List<JsonNode> lines = importUsers("text/csv", csv);
+
+		assertThat(lines).hasSize(6);
+		assertThat(lines.subList(0, 5)).extracting(line -> line.get("status").asText())
+				.containsExactly("CREATED", "CREATED", "DUPLICATE", "INVALID", "INVALID");
+		assertThat(lines.subList(0, 5)).extracting(line -> line.get("line").asLong())
+				.containsExactly(2L, 3L, 4L, 5L, 6L);
+		assertThat(lines.get(1).get("email").asText()).isEqualTo("b" + id + "@example.com");
+		assertThat(lines.get(5).get("created").asLong()).isEqualTo(2);
+		assertThat(lines.get(5).get("rows").asLong()).isEqualTo(5);
+
+		// Imported passwords are hashed like registered ones
+		mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"B" + id + "@example.com\",\"password\":\"password123\"}"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void ndjsonImportSkipsExistingUsers() throws Exception {
+		String email = "nd" + System.nanoTime() + "@example.com";
+		String ndjson = "{\"email\":\"" + email + "\",\"password\":\"password123\"}\n"
+				+ "{not json\n"
+				+ "\n"
+				+ "{\"email\":\"" + email.toUpperCase() + "\",\"password\":\"password123\"}\n";
+
+		List<JsonNode> lines = importUsers(MediaType.APPLICATION_NDJSON_VALUE, ndjson);
+
+		assertThat(lines.subList(0, 3)).extracting(line -> line.get("status").asText())
+				.containsExactly("CREATED", "INVALID", "DUPLICATE");
+		assertThat(lines.get(2).get("line").asLong()).isEqualTo(4);
+	}
+
+	@Test
+	void importRequiresTheAdminToken() throws Exception {
+		mockMvc.perform(post(IMPORT).contentType("text/csv").content("email,password\n"))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(post(IMPORT).header(AdminTokenFilter.HEADER, "wrong")
+						.contentType("text/csv").content("email,password\n"))
+				.andExpect(status().isForbidden());
+	}
+
+	private List<JsonNode> importUsers(String contentType, String body) throws Exception {
+		String response = mockMvc.perform(post(IMPORT)
+						.header(AdminTokenFilter.HEADER, "test-admin-token")
+						.contentType(contentType)
+						.content(body))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : response.split("\n")) {
+			lines.add(objectMapper.readTree(line));
+		}
+		return lines;
+	}
+}
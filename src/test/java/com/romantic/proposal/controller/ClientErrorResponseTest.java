@@ -0,0 +1,55 @@
+package com.romantic.proposal.controller;
+
+import com.romantic.proposal.exception.ProposalNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.retention.enabled=false", "app.errors.client-log-sample-rate=1"})
+@AutoConfigureMockMvc
+class ClientErrorResponseTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void unknownTokensGetTheSamePreSerializedBody() throws Exception {
+		byte[] first = mockMvc.perform(post("/api/proposal/no-such-token/view"))
+				.andExpect(status().isNotFound())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.status").value(404))
+				.andExpect(jsonPath("$.error").value("Not Found"))
+				.andExpect(jsonPath("$.message").value("Invalid proposal token"))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		byte[] second = mockMvc.perform(post("/api/proposal/another-token/view"))
+				.andExpect(status().isNotFound())
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertThat(second).isEqualTo(first);
+	}
+
+	@Test
+	void badLoginsAreA401WithoutAStackTrace() throws Exception {
+		mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"nobody@example.com\",\"password\":\"wrong\"}"))
+				.andExpect(status().isUnauthorized())
+				.andExpect(jsonPath("$.message").value("Invalid email or password"));
+
+		// No email at all is just another bad login
+		mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"password\":\"x\"}"))
+				.andExpect(status().isUnauthorized());
+
+		assertThat(new ProposalNotFoundException("Invalid proposal token").getStackTrace()).isEmpty();
+	}
+}
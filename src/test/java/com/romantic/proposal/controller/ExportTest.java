@@ -0,0 +1,99 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.retention.enabled=false")
+@AutoConfigureMockMvc
+class ExportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private EmailService emailService;
+
+	private String jwt;
+
+	@BeforeEach
+	void createAnsweredAndOpenProposal() throws Exception {
+		String credentials = "{\"email\":\"export-" + System.nanoTime() + "@example.com\",\"password\":\"password123\"}";
+		jwt = objectMapper.readTree(mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).get("token").asText();
+
+		for (int i = 0; i < 2; i++) {
+			JsonNode proposal = objectMapper.readTree(mockMvc.perform(post("/api/proposal/create").header("Authorization", "Bearer " + jwt))
+					.andExpect(status().isCreated()).andReturn().getResponse().getContentAsString());
+			if (i == 0) {
+				mockMvc.perform(post("/api/proposal/" + proposal.get("uniqueToken").asText() + "/respond")
+								.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"))
+						.andExpect(status().isOk());
+			}
+		}
+	}
+
+	@Test
+	void ndjsonExportStreamsProposalsThenNotifications() throws Exception {
+		MockHttpServletResponse response = export("ndjson");
+
+		assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("proposal-export.ndjson");
+		List<JsonNode> rows = new ArrayList<>();
+		for (String line : response.getContentAsString().split("\n")) {
+			rows.add(objectMapper.readTree(line));
+		}
+		assertThat(rows).extracting(row -> row.get("type").asText())
+				.containsExactly("proposal", "proposal", "notification");
+		assertThat(rows.get(0).get("response").asText()).isEqualTo("YES");
+		assertThat(rows.get(2).get("proposalId").asText()).isEqualTo(rows.get(0).get("id").asText());
+	}
+
+	@Test
+	void csvExportHasOneHeaderAndOneRecordPerRow() throws Exception {
+		String[] records = export("csv").getContentAsString().split("\r\n");
+
+		assertThat(records).hasSize(4);
+		assertThat(records[0]).isEqualTo("type,id,proposal_id,shareable_link,response,message,is_read,created_at,expires_at,responded_at,view_count");
+		assertThat(records[3]).startsWith("notification,").contains("\"Congratulations!! I am so, so happy for you!");
+	}
+
+	@Test
+	void unknownFormatIsRejected() throws Exception {
+		mockMvc.perform(get("/api/export").param("format", "xml").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isBadRequest());
+	}
+
+	private MockHttpServletResponse export(String format) throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/export").param("format", format).header("Authorization", "Bearer " + jwt))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+	}
+}
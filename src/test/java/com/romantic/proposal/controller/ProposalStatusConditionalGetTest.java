@@ -0,0 +1,69 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.service.EmailService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.retention.enabled=false")
+@AutoConfigureMockMvc
+class ProposalStatusConditionalGetTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void statusIsRevalidatedWithETagUntilAnswered() throws Exception {
+		String credentials = "{\"email\":\"etag-" + System.nanoTime() + "@example.com\",\"password\":\"password123\"}";
+		String jwt = json(mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk()).andReturn().getResponse()).get("token").asText();
+		JsonNode proposal = json(mockMvc.perform(post("/api/proposal/create").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isCreated()).andReturn().getResponse());
+		String statusUrl = "/api/proposal/" + proposal.get("proposalId").asText() + "/status";
+
+		MockHttpServletResponse first = mockMvc.perform(get(statusUrl).header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isOk()).andReturn().getResponse();
+		String etag = first.getHeader(HttpHeaders.ETAG);
+		assertThat(etag).startsWith("\"").doesNotStartWith("W/");
+		assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+
+		MockHttpServletResponse unchanged = mockMvc.perform(get(statusUrl).header("Authorization", "Bearer " + jwt)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified()).andReturn().getResponse();
+		assertThat(unchanged.getContentLength()).isZero();
+		assertThat(unchanged.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+		mockMvc.perform(post("/api/proposal/" + proposal.get("uniqueToken").asText() + "/respond")
+						.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"))
+				.andExpect(status().isOk());
+
+		MockHttpServletResponse answered = mockMvc.perform(get(statusUrl).header("Authorization", "Bearer " + jwt)
+						.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk()).andReturn().getResponse();
+		assertThat(answered.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+		assertThat(json(answered).get("answered").asBoolean()).isTrue();
+	}
+
+	private JsonNode json(MockHttpServletResponse response) throws Exception {
+		return objectMapper.readTree(response.getContentAsString());
+	}
+}
@@ -0,0 +1,89 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.service.EmailService;
+import com.romantic.proposal.service.ProposalViewCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.proposal.views.flush-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class ProposalViewCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ProposalViewCounter proposalViewCounter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void viewsBeforeTheAnswerAreCountedAndFlushedInBulk() throws Exception {
+		String credentials = "{\"email\":\"views-" + System.nanoTime() + "@example.com\",\"password\":\"password123\"}";
+		String jwt = json(mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).get("token").asText();
+		JsonNode proposal = json(mockMvc.perform(post("/api/proposal/create").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isCreated()).andReturn().getResponse().getContentAsString());
+		String token = proposal.get("uniqueToken").asText();
+		String proposalId = proposal.get("proposalId").asText();
+
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(post("/api/proposal/" + token + "/view")).andExpect(status().isNoContent());
+		}
+		// Pending in memory, not yet in the row
+		assertThat(viewCount(proposalId, jwt)).isEqualTo(3);
+		assertThat(storedViewCount(proposalId)).isZero();
+
+		proposalViewCounter.flush();
+		assertThat(storedViewCount(proposalId)).isEqualTo(3);
+		// The cached proposal was evicted, so the flushed count is not added twice or lost
+		assertThat(viewCount(proposalId, jwt)).isEqualTo(3);
+
+		mockMvc.perform(post("/api/proposal/" + token + "/respond")
+						.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/api/proposal/" + token + "/view")).andExpect(status().isNoContent());
+		proposalViewCounter.flush();
+		assertThat(viewCount(proposalId, jwt)).isEqualTo(3);
+
+		mockMvc.perform(post("/api/proposal/no-such-token/view")).andExpect(status().isNotFound());
+	}
+
+	private long viewCount(String proposalId, String jwt) throws Exception {
+		return json(mockMvc.perform(get("/api/proposal/" + proposalId + "/status").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).get("viewCount").asLong();
+	}
+
+	private long storedViewCount(String proposalId) {
+		return jdbcTemplate.queryForObject("SELECT view_count FROM proposals WHERE id = ?", Long.class, UUID.fromString(proposalId));
+	}
+
+	private JsonNode json(String body) throws Exception {
+		return objectMapper.readTree(body);
+	}
+}
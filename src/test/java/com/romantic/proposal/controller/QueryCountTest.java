@@ -0,0 +1,89 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.service.EmailService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the exact number of SQL statements each endpoint issues. The second-level cache is
+ * emptied before every request, so the count is the cold-cache worst case and an added
+ * lazy load or N+1 shows up as a failing number here.
+ */
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.proposal.views.flush-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class QueryCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockBean
+	private EmailService emailService;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void enableStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void everyEndpointIssuesAFixedNumberOfStatements() throws Exception {
+		String credentials = "{\"email\":\"queries-" + System.nanoTime() + "@example.com\",\"password\":\"password123\"}";
+
+		assertStatements("register (insert user)", 1, post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials));
+		String jwt = json(assertStatements("login (select user)", 1, post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(credentials)))
+				.get("token").asText();
+		JsonNode proposal = json(assertStatements("create (select user, insert proposal)", 2, post("/api/proposal/create").header("Authorization", "Bearer " + jwt)));
+		String token = proposal.get("uniqueToken").asText();
+		String statusUrl = "/api/proposal/" + proposal.get("proposalId").asText() + "/status";
+
+		assertStatements("status (select user, select proposal)", 2, get(statusUrl).header("Authorization", "Bearer " + jwt));
+		assertStatements("view (select proposal)", 1, post("/api/proposal/" + token + "/view"));
+		assertStatements("respond (select proposal and user for update, update proposal, insert notification)", 3, post("/api/proposal/" + token + "/respond")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"));
+	}
+
+	private String assertStatements(String endpoint, long expected, RequestBuilder request) throws Exception {
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+		statistics.clear();
+
+		String body = mockMvc.perform(request)
+				.andExpect(status().is2xxSuccessful())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(statistics.getPrepareStatementCount())
+				.as("SQL statements for %s", endpoint)
+				.isEqualTo(expected);
+		return body;
+	}
+
+	private JsonNode json(String body) throws Exception {
+		return objectMapper.readTree(body);
+	}
+}
@@ -0,0 +1,94 @@
+package com.romantic.proposal.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.service.EmailService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.reactive-reads.enabled=true"
+})
+@AutoConfigureMockMvc
+class ReactiveProposalStatusTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicationContext context;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void statusIsServedOverR2dbcAlongsideTheJpaWritePath() throws Exception {
+		// The R2DBC pool must not displace the JDBC DataSource the writes run on
+		assertThat(context.getBeansOfType(DataSource.class)).isNotEmpty();
+		assertThat(context.getBeansOfType(ProposalStatusController.class)).isEmpty();
+
+		String credentials = "{\"email\":\"reactive-" + System.nanoTime() + "@example.com\",\"password\":\"password123\"}";
+		String jwt = json(mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk()).andReturn().getResponse()).get("token").asText();
+		JsonNode proposal = json(mockMvc.perform(post("/api/proposal/create").header("Authorization", "Bearer " + jwt))
+				.andExpect(status().isCreated()).andReturn().getResponse());
+		String statusUrl = "/api/proposal/" + proposal.get("proposalId").asText() + "/status";
+
+		MockHttpServletResponse open = poll(get(statusUrl).header("Authorization", "Bearer " + jwt));
+		assertThat(open.getStatus()).isEqualTo(200);
+		assertThat(json(open).get("answered").asBoolean()).isFalse();
+		assertThat(json(open).get("proposalId").asText()).isEqualTo(proposal.get("proposalId").asText());
+		String etag = open.getHeader(HttpHeaders.ETAG);
+		assertThat(open.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache, private");
+
+		assertThat(poll(get(statusUrl).header("Authorization", "Bearer " + jwt).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.getStatus()).isEqualTo(304);
+
+		mockMvc.perform(post("/api/proposal/" + proposal.get("uniqueToken").asText() + "/respond")
+						.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"))
+				.andExpect(status().isOk());
+
+		// Committed through JPA, visible to the next R2DBC read
+		MockHttpServletResponse answered = poll(get(statusUrl).header("Authorization", "Bearer " + jwt)
+				.header(HttpHeaders.IF_NONE_MATCH, etag));
+		assertThat(answered.getStatus()).isEqualTo(200);
+		assertThat(json(answered).get("response").asText()).isEqualTo("YES");
+		assertThat(json(answered).get("answeredAt").isNull()).isFalse();
+
+		assertThat(poll(get("/api/proposal/" + UUID.randomUUID() + "/status").header("Authorization", "Bearer " + jwt))
+				.getStatus()).isEqualTo(404);
+	}
+
+	private MockHttpServletResponse poll(MockHttpServletRequestBuilder request) throws Exception {
+		MvcResult started = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+		return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+	}
+
+	private JsonNode json(MockHttpServletResponse response) throws Exception {
+		return objectMapper.readTree(response.getContentAsString());
+	}
+}
@@ -0,0 +1,64 @@
+package com.romantic.proposal.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.retention.enabled=false")
+@AutoConfigureMockMvc
+class RegistrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void registrationIsOneInsertAndEmailsAreCaseInsensitive() throws Exception {
+		String local = "Case" + System.nanoTime();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		String userId = JsonPath.read(mockMvc.perform(json("/api/auth/register", " " + local + "@Example.COM ", "password123"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.email").value(local.toLowerCase() + "@example.com"))
+				.andReturn().getResponse().getContentAsString(), "$.userId");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		// Time-ordered key from UuidV7
+		assertThat(UUID.fromString(userId).version()).isEqualTo(7);
+
+		mockMvc.perform(json("/api/auth/register", local.toLowerCase() + "@example.com", "password123"))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.message").value("Email already registered"));
+
+		// A malformed address is a validation error, not a failed login
+		mockMvc.perform(json("/api/auth/register", "not-an-email", "password123"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Invalid email format"));
+
+		mockMvc.perform(json("/api/auth/login", local.toUpperCase() + "@EXAMPLE.com", "password123"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.email").value(local.toLowerCase() + "@example.com"));
+	}
+
+	private MockHttpServletRequestBuilder json(String url, String email, String password) {
+		return post(url).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}");
+	}
+}
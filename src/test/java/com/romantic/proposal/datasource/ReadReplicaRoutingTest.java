@@ -0,0 +1,145 @@
+package com.romantic.proposal.datasource;
+
+import com.romantic.proposal.dto.ProposalResponse;
+import com.romantic.proposal.dto.RegisterRequest;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.exception.UserNotFoundException;
+import com.romantic.proposal.service.AuthService;
+import com.romantic.proposal.service.ProposalService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Two in-memory H2 databases stand in for primary and replica. Nothing replicates between
+ * them, so a row that exists on only one side shows which database a read was routed to.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+		"app.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+		"app.datasource.replica.lag-query=SELECT lag_seconds FROM replication_status",
+		"app.datasource.replica.max-lag=PT10S",
+		"app.datasource.replica.lag-check-interval=PT1H",
+		"app.retention.enabled=false"
+})
+class ReadReplicaRoutingTest {
+
+	static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private ProposalService proposalService;
+
+	@Autowired
+	private ReplicaLagMonitor lagMonitor;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	private final DataSource replicaAdmin = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void prepareReplica() {
+		Flyway.configure()
+				.dataSource(replicaAdmin)
+				.locations("classpath:db/migration/common", "classpath:db/migration/h2")
+				.load()
+				.migrate();
+		primary = new JdbcTemplate(primaryDataSource);
+		replica = new JdbcTemplate(replicaAdmin);
+		replica.execute("CREATE TABLE IF NOT EXISTS replication_status (lag_seconds DOUBLE)");
+		replica.update("DELETE FROM replication_status");
+		replica.update("INSERT INTO replication_status VALUES (0)");
+		lagMonitor.checkLag();
+	}
+
+	@AfterEach
+	void resetLag() {
+		replica.update("UPDATE replication_status SET lag_seconds = 0");
+		lagMonitor.checkLag();
+	}
+
+	@Test
+	void readOnlyTransactionsAreServedByTheReplica() {
+		String email = uniqueEmail();
+		insertUser(replica, email);
+
+		assertThat(authService.getUserByEmail(email).getEmail()).isEqualTo(email);
+		assertThat(countUsers(primary, email)).isZero();
+	}
+
+	@Test
+	void writesGoToThePrimaryAndTheWriterReadsItsOwnWrites() {
+		String email = uniqueEmail();
+		authService.register(new RegisterRequest(email, "password123", "Writer"));
+
+		assertThat(countUsers(primary, email)).isEqualTo(1);
+		assertThat(countUsers(replica, email)).isZero();
+
+		User user = authService.getUserByEmail(email);
+		ProposalResponse created = proposalService.createProposal(user, "http://localhost/index.html");
+
+		assertThat(proposalService.getProposalStatus(UUID.fromString(created.proposalId()), user).answered())
+				.isFalse();
+	}
+
+	@Test
+	void readsFallBackToThePrimaryWhileTheReplicaLags() {
+		String email = uniqueEmail();
+		insertUser(primary, email);
+
+		assertThatThrownBy(() -> authService.getUserByEmail(email)).isInstanceOf(UserNotFoundException.class);
+
+		replica.update("UPDATE replication_status SET lag_seconds = 60");
+		lagMonitor.checkLag();
+
+		assertThat(lagMonitor.isReplicaUsable()).isFalse();
+		assertThat(authService.getUserByEmail(email).getEmail()).isEqualTo(email);
+	}
+
+	@Test
+	void aReadingThatIsNoLongerRefreshedGoesStale() throws InterruptedException {
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaAdmin,
+				"SELECT lag_seconds FROM replication_status", Duration.ofSeconds(10), Duration.ofMillis(50));
+		assertThat(monitor.isReplicaUsable()).isFalse();
+
+		monitor.checkLag();
+		assertThat(monitor.isReplicaUsable()).isTrue();
+
+		// No further checks (a hung or starved checker): after three intervals the reading is not trusted
+		Thread.sleep(50 * ReplicaLagMonitor.STALE_AFTER_INTERVALS + 50);
+		assertThat(monitor.isReplicaUsable()).isFalse();
+	}
+
+	private static String uniqueEmail() {
+		return "routing-" + UUID.randomUUID() + "@example.com";
+	}
+
+	private static void insertUser(JdbcTemplate jdbc, String email) {
+		jdbc.update("INSERT INTO users (id, email, password, name, created_at) VALUES (?, ?, 'x', 'Routed', CURRENT_TIMESTAMP)",
+				UUID.randomUUID(), email);
+	}
+
+	private static int countUsers(JdbcTemplate jdbc, String email) {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email);
+	}
+}
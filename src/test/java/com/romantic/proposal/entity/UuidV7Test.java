@@ -0,0 +1,34 @@
+package com.romantic.proposal.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+	@Test
+	void idsAreVersion7AndCarryTheCurrentTime() {
+		long before = System.currentTimeMillis();
+		UUID id = UuidV7.next();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+		assertThat(UuidV7.timestamp(id)).isBetween(before, System.currentTimeMillis() + 1);
+	}
+
+	@Test
+	void idsIncreaseWithinTheSameMillisecondAndWhenTheClockGoesBack() {
+		UuidV7.Generator generator = new UuidV7.Generator();
+		UUID previous = generator.next(1_000);
+
+		// More ids than the counter holds for one millisecond, then a clock step backwards
+		for (int i = 0; i < 10_000; i++) {
+			UUID next = generator.next(i < 9_000 ? 1_000 : 999);
+			assertThat(next).isGreaterThan(previous);
+			assertThat(next.version()).isEqualTo(7);
+			previous = next;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.entity.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every repository query against the Flyway-managed H2 schema, captures the SQL
+ * Hibernate actually issues, and asserts H2's {@code EXPLAIN} plan for it uses an index
+ * rather than a table scan. A new query without a matching index fails here.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.romantic.proposal.repository.RepositoryIndexUsageTest$CapturingInspector",
+		"app.retention.enabled=false"
+})
+@Transactional
+class RepositoryIndexUsageTest {
+
+	static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+	public static class CapturingInspector implements StatementInspector {
+		@Override
+		public String inspect(String sql) {
+			CAPTURED.add(sql);
+			return sql;
+		}
+	}
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProposalRepository proposalRepository;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final LocalDateTime now = LocalDateTime.now();
+	private final UUID anyId = UUID.randomUUID();
+
+	@BeforeEach
+	void clearCaptured() {
+		CAPTURED.clear();
+	}
+
+	@Test
+	void userQueriesUseIndexes() {
+		userRepository.findByEmail("someone@example.com");
+
+		assertEveryCapturedStatementUsesAnIndex();
+	}
+
+	@Test
+	void proposalQueriesUseIndexes() {
+		User user = userRepository.getReferenceById(anyId);
+		proposalRepository.findByUniqueToken("token");
+		proposalRepository.findByUniqueTokenForUpdate("token");
+		proposalRepository.findByIdAndUser(anyId, user);
+		proposalRepository.findExpiredUnanswered(now, RetentionKey.START.timestamp(), RetentionKey.START.id(), Limit.of(10));
+		proposalRepository.archiveUnansweredByIdIn(List.of(anyId), now);
+		proposalRepository.deleteUnansweredByIdIn(List.of(anyId));
+		proposalRepository.findDueReminders(now, RetentionKey.START.timestamp(), RetentionKey.START.id(), Limit.of(10));
+		proposalRepository.findRemindersByIdIn(List.of(anyId));
+		try (var rows = proposalRepository.streamExportByUserId(anyId)) {
+			rows.forEach(row -> { });
+		}
+
+		assertEveryCapturedStatementUsesAnIndex();
+	}
+
+	@Test
+	void notificationQueriesUseIndexes() {
+		User user = userRepository.getReferenceById(anyId);
+		notificationRepository.findByUserOrderByCreatedAtDesc(user);
+		notificationRepository.findReadCreatedBefore(now, RetentionKey.START.timestamp(), RetentionKey.START.id(), Limit.of(10));
+		notificationRepository.deleteByIdIn(List.of(anyId));
+		try (var rows = notificationRepository.streamExportByUserId(anyId)) {
+			rows.forEach(row -> { });
+		}
+
+		assertEveryCapturedStatementUsesAnIndex();
+	}
+
+	private void assertEveryCapturedStatementUsesAnIndex() {
+		List<String> filtered = CAPTURED.stream()
+				.filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" where "))
+				.toList();
+		assertThat(filtered).isNotEmpty();
+
+		for (String sql : filtered) {
+			String plan = jdbcTemplate.execute((java.sql.Connection con) -> {
+				try (var statement = con.prepareStatement("EXPLAIN " + sql);
+					 var rs = statement.executeQuery()) {
+					rs.next();
+					return rs.getString(1);
+				}
+			});
+			assertThat(plan)
+					.as("query plan for: %s", sql)
+					.doesNotContain("tableScan");
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.romantic.proposal.repository;
+
+import com.romantic.proposal.dto.RespondRequest;
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.service.EmailService;
+import com.romantic.proposal.service.ProposalService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeated lookups of users and proposals must be served from the second-level cache,
+ * and answering a proposal must update the cached state rather than leave it stale.
+ */
+@SpringBootTest(properties = "app.retention.enabled=false")
+class SecondLevelCacheTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProposalRepository proposalRepository;
+
+	@Autowired
+	private ProposalService proposalService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockBean
+	private EmailService emailService;
+
+	private Statistics statistics;
+	private User user;
+	private Proposal proposal;
+
+	@BeforeEach
+	void createUserAndProposal() {
+		String email = "cache-" + UUID.randomUUID() + "@example.com";
+		user = userRepository.save(User.builder().email(email).password("x").name("Cached").build());
+		proposal = proposalRepository.save(Proposal.builder()
+				.user(user)
+				.uniqueToken(UUID.randomUUID().toString().replace("-", ""))
+				.shareableLink("http://localhost/index.html")
+				.build());
+
+		entityManagerFactory.getCache().evictAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void secondUserLookupByEmailIssuesNoSql() {
+		assertThat(userRepository.findByEmail(user.getEmail())).isPresent();
+		assertThat(statistics.getPrepareStatementCount()).isPositive();
+
+		statistics.clear();
+		assertThat(userRepository.findByEmail(user.getEmail())).isPresent();
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void secondProposalLookupsIssueNoSql() {
+		proposalRepository.findByUniqueToken(proposal.getUniqueToken());
+		proposalRepository.findByIdAndUser(proposal.getId(), user);
+
+		statistics.clear();
+		assertThat(proposalRepository.findByUniqueToken(proposal.getUniqueToken())).isPresent();
+		assertThat(proposalRepository.findByIdAndUser(proposal.getId(), user)).isPresent();
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void respondingInvalidatesTheCachedProposal() {
+		assertThat(proposalRepository.findByUniqueToken(proposal.getUniqueToken()).orElseThrow().getResponse()).isNull();
+
+		proposalService.respondToProposal(proposal.getUniqueToken(), new RespondRequest("YES"));
+
+		assertThat(proposalRepository.findByUniqueToken(proposal.getUniqueToken()).orElseThrow().getResponse())
+				.isEqualTo(Proposal.ProposalResponse.YES);
+
+		statistics.clear();
+		assertThat(proposalRepository.findByUniqueToken(proposal.getUniqueToken()).orElseThrow().getResponse())
+				.isEqualTo(Proposal.ProposalResponse.YES);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void cacheRegionStatisticsArePublishedAsMetrics() {
+		userRepository.findByEmail(user.getEmail());
+		userRepository.findByEmail(user.getEmail());
+
+		assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+				.tags("region", "users", "result", "hit")
+				.functionCounter()
+				.count()).isPositive();
+	}
+}
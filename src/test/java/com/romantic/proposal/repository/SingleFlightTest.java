@@ -0,0 +1,135 @@
+package com.romantic.proposal.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+	private static final int CALLERS = 8;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+	@AfterEach
+	void shutDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneLookup() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		AtomicInteger lookups = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<String>> results = callConcurrently(() -> flight.execute("token", () -> {
+			lookups.incrementAndGet();
+			await(release);
+			return "found";
+		}));
+		awaitCoalesced(CALLERS - 1);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("found");
+		}
+		assertThat(lookups).hasValue(1);
+		assertThat(count("leader")).isEqualTo(1);
+		assertThat(count("coalesced")).isEqualTo(CALLERS - 1);
+
+		// Landed flights are forgotten: the next call queries again
+		flight.execute("token", () -> "again");
+		assertThat(count("leader")).isEqualTo(2);
+	}
+
+	@Test
+	void everyWaiterRethrowsTheLeadersException() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		IllegalStateException failure = new IllegalStateException("database down");
+
+		List<Future<String>> results = callConcurrently(() -> flight.execute("token", () -> {
+			await(release);
+			throw failure;
+		}));
+		awaitCoalesced(CALLERS - 1);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+		}
+	}
+
+	@Test
+	void waitersRunTheirOwnLookupOnceTheLeaderTimesOut() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> flight.execute("token", () -> {
+			await(release);
+			return "slow";
+		}));
+		awaitLeader();
+
+		assertThat(flight.execute("token", () -> "own")).isEqualTo("own");
+		assertThat(count("timed_out")).isEqualTo(1);
+
+		release.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+	}
+
+	@Test
+	void aNullKeyRunsItsLookupWithoutCoalescing() {
+		SingleFlight<String, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+
+		assertThat(flight.execute(null, () -> "looked up")).isEqualTo("looked up");
+		assertThat(count("leader")).isZero();
+	}
+
+	private List<Future<String>> callConcurrently(Callable<String> call) {
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(executor.submit(call));
+		}
+		return results;
+	}
+
+	private void awaitLeader() throws InterruptedException {
+		while (count("leader") < 1) {
+			Thread.sleep(5);
+		}
+	}
+
+	private void awaitCoalesced(int waiters) throws InterruptedException {
+		while (count("coalesced") < waiters) {
+			Thread.sleep(5);
+		}
+	}
+
+	private double count(String role) {
+		return meterRegistry.counter("repository.single.flight", "lookup", "test", "role", role).count();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.romantic.proposal.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.concurrency-limit.enabled=true",
+		"app.concurrency-limit.auth.initial-limit=7",
+		// A read limit that admits nothing, so every read is shed
+		"app.concurrency-limit.proposal-read.initial-limit=0",
+		"app.concurrency-limit.proposal-read.min-limit=0"
+})
+@AutoConfigureMockMvc
+class ConcurrencyLimitFilterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void requestsOverTheirClassLimitAreShedWithoutAffectingOtherClasses() throws Exception {
+		double readsShed = meterRegistry.get("concurrency.rejected").tag("endpoint", "proposal_read").counter().count();
+		mockMvc.perform(get("/api/proposal/" + UUID.randomUUID() + "/status"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string("Retry-After", "1"))
+				.andExpect(jsonPath("$.status").value(503));
+
+		mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"nobody@example.com\",\"password\":\"wrong\"}"))
+				.andExpect(status().isUnauthorized());
+
+		assertThat(meterRegistry.get("concurrency.rejected").tag("endpoint", "proposal_read").counter().count()).isEqualTo(readsShed + 1);
+		assertThat(meterRegistry.get("concurrency.limit").tag("endpoint", "auth").gauge().value()).isGreaterThanOrEqualTo(7);
+		assertThat(meterRegistry.get("concurrency.in.flight").tag("endpoint", "auth").gauge().value()).isZero();
+	}
+
+	@Test
+	void linkOpenPingsAreLimitedAsReadsNotWrites() throws Exception {
+		assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/proposal/abc/view")))
+				.isEqualTo(ConcurrencyLimitFilter.EndpointClass.PROPOSAL_READ);
+		assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/proposal/abc/respond")))
+				.isEqualTo(ConcurrencyLimitFilter.EndpointClass.PROPOSAL_WRITE);
+		assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/proposal/create")))
+				.isEqualTo(ConcurrencyLimitFilter.EndpointClass.PROPOSAL_WRITE);
+
+		// The read limit admits nothing, so the ping is shed and counted as a read
+		double readsShed = meterRegistry.get("concurrency.rejected").tag("endpoint", "proposal_read").counter().count();
+		mockMvc.perform(post("/api/proposal/abc/view"))
+				.andExpect(status().isServiceUnavailable());
+		assertThat(meterRegistry.get("concurrency.rejected").tag("endpoint", "proposal_read").counter().count())
+				.isEqualTo(readsShed + 1);
+	}
+
+	@Test
+	void limitGrowsAdditivelyUnderLoadAndBacksOffOnSlowRequests() {
+		AimdLimit limit = new AimdLimit();
+		limit.setInitialLimit(4);
+		limit.setMaxLimit(10);
+		limit.setLatencyThreshold(Duration.ofMillis(100));
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(limit.tryAcquire()).isTrue();
+		}
+		assertThat(limit.tryAcquire()).isFalse();
+
+		// Fast completions while fully used: +1/limit each, so one full round adds about one slot
+		for (int i = 0; i < 4; i++) {
+			limit.release(Duration.ofMillis(10).toNanos(), false);
+			limit.tryAcquire();
+		}
+		assertThat(limit.getLimit()).isEqualTo(4);
+		limit.release(Duration.ofMillis(10).toNanos(), false);
+		assertThat(limit.getLimit()).isEqualTo(5);
+
+		// A slow completion multiplies it by 0.9, and so does a failed one
+		limit.release(Duration.ofSeconds(1).toNanos(), false);
+		limit.release(Duration.ofMillis(10).toNanos(), true);
+		assertThat(limit.getLimit()).isEqualTo(4);
+		assertThat(limit.getInFlight()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,34 @@
+package com.romantic.proposal.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmailServiceTest {
+
+	@Test
+	void remindersAndAnswerNotificationsAreTimedApart() {
+		JavaMailSender mailSender = mock(JavaMailSender.class);
+		when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+		MeterRegistry registry = new SimpleMeterRegistry();
+		EmailService emailService = new EmailService(mailSender, registry);
+		ReflectionTestUtils.setField(emailService, "fromEmail", "Romantic Proposal <noreply@example.com>");
+
+		emailService.sendProposalResponseEmail("owner@example.com", "YES", "http://localhost/?proposal=a");
+		emailService.sendProposalReminderEmail("owner@example.com", "http://localhost/?proposal=b");
+		emailService.sendProposalReminderEmail("owner@example.com", "http://localhost/?proposal=c");
+
+		assertThat(registry.get("email.send").tag("kind", "response").tag("outcome", "success").timer().count()).isEqualTo(1);
+		assertThat(registry.get("email.send").tag("kind", "reminder").tag("outcome", "success").timer().count()).isEqualTo(2);
+	}
+}
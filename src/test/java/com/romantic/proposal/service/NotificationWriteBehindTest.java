@@ -0,0 +1,182 @@
+package com.romantic.proposal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romantic.proposal.entity.Notification;
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.repository.NotificationRepository;
+import com.romantic.proposal.repository.PendingNotification;
+import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.notifications.write-behind.enabled=true",
+		"app.notifications.write-behind.flush-interval=200ms"
+})
+@AutoConfigureMockMvc
+class NotificationWriteBehindTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ProposalRepository proposalRepository;
+
+	@Autowired
+	private NotificationWriter notificationWriter;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void committedAnswersAreInsertedInBatchesAndRejectedOnesAreNot() throws Exception {
+		String email = "write-behind-" + System.nanoTime() + "@example.com";
+		String jwt = objectMapper.readTree(mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString()).get("token").asText();
+
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			tokens.add(objectMapper.readTree(mockMvc.perform(post("/api/proposal/create").header("Authorization", "Bearer " + jwt))
+					.andExpect(status().isCreated()).andReturn().getResponse().getContentAsString()).get("uniqueToken").asText());
+		}
+		for (String token : tokens) {
+			respond(token).andExpect(status().isOk());
+		}
+		// Already answered: fails before save(), so no fourth notification
+		respond(tokens.get(0)).andExpect(status().isConflict());
+
+		User user = userRepository.findByEmail(email).orElseThrow();
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (notificationRepository.findByUserOrderByCreatedAtDesc(user).size() < 3 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+
+		assertThat(notificationRepository.findByUserOrderByCreatedAtDesc(user)).hasSize(3);
+		assertThat(meterRegistry.get("notification.writer.batch").summary().totalAmount()).isGreaterThanOrEqualTo(3);
+		assertThat(meterRegistry.get("notification.writer.queue").gauge().value()).isZero();
+		assertThat(meterRegistry.find("notification.writer.fallback").counter()).isNull();
+	}
+
+	@Test
+	void aTransactionRolledBackAfterSaveQueuesNothing() throws Exception {
+		User user = userRepository.save(User.builder()
+				.email("rolled-back-" + System.nanoTime() + "@example.com")
+				.password("not-a-hash")
+				.build());
+		Proposal proposal = proposalRepository.save(Proposal.builder()
+				.user(user)
+				.uniqueToken("rolled-back" + System.nanoTime())
+				.shareableLink("http://localhost:3000")
+				.build());
+
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+			notificationWriter.save(notification(proposal, "rolled back"));
+			throw new IllegalStateException("failed after save()");
+		})).hasMessage("failed after save()");
+		transactionTemplate.executeWithoutResult(status -> notificationWriter.save(notification(proposal, "committed")));
+
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (notificationRepository.findByUserOrderByCreatedAtDesc(user).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		// The writer has caught up with the later, committed save; the rolled-back one never reached it
+		assertThat(notificationRepository.findByUserOrderByCreatedAtDesc(user))
+				.extracting(Notification::getMessage)
+				.containsExactly("committed");
+	}
+
+	@Test
+	void aFullQueueFallsBackToInsertingOnTheCallingThread() throws Exception {
+		CountDownLatch writerBusy = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<PendingNotification> inserted = new CopyOnWriteArrayList<>();
+		NotificationRepository repository = mock(NotificationRepository.class);
+		doAnswer(invocation -> {
+			if (Thread.currentThread().getName().equals("notification-writer")) {
+				writerBusy.countDown();
+				release.await();
+			}
+			inserted.addAll(invocation.getArgument(0));
+			return null;
+		}).when(repository).insertAll(anyList());
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		NotificationWriter writer = new NotificationWriter(repository, mock(PlatformTransactionManager.class), registry,
+				true, 200, Duration.ofMillis(10), 1);
+		writer.start();
+		try {
+			Proposal proposal = Proposal.builder().id(UUID.randomUUID()).user(User.builder().id(UUID.randomUUID()).build()).build();
+
+			// The writer takes the first row and blocks inserting it; the second fills the queue
+			writer.save(notification(proposal, "first"));
+			assertThat(writerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+			writer.save(notification(proposal, "queued"));
+
+			writer.save(notification(proposal, "overflow"));
+			assertThat(inserted).extracting(PendingNotification::message).containsExactly("overflow");
+			assertThat(registry.get("notification.writer.fallback").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+		} finally {
+			release.countDown();
+			writer.stop();
+		}
+		assertThat(inserted).extracting(PendingNotification::message).containsExactlyInAnyOrder("first", "queued", "overflow");
+	}
+
+	private static Notification notification(Proposal proposal, String message) {
+		return Notification.builder()
+				.proposal(proposal)
+				.user(proposal.getUser())
+				.message(message)
+				.build();
+	}
+
+	private ResultActions respond(String token) throws Exception {
+		return mockMvc.perform(post("/api/proposal/" + token + "/respond")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"));
+	}
+}
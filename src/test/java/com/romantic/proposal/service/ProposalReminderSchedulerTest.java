@@ -0,0 +1,140 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.reminders.enabled=true",
+		"app.reminders.initial-delay=PT1H",
+		"app.reminders.batch-size=2",
+		"app.reminders.throttle=0ms",
+		"app.reminders.max-concurrent-sends=1",
+		"app.reminders.queue-capacity=3"
+})
+class ProposalReminderSchedulerTest {
+
+	@Autowired
+	private ProposalReminderScheduler scheduler;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProposalRepository proposalRepository;
+
+	@Autowired
+	private ThreadPoolTaskExecutor reminderTaskExecutor;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void dueUnansweredProposalsAreRemindedExactlyOnce() {
+		LocalDateTime now = LocalDateTime.now();
+		User owner = userRepository.save(User.builder()
+				.email("reminded-" + System.nanoTime() + "@example.com")
+				.password("not-a-hash")
+				.build());
+
+		Proposal due = save(owner, "due", now.minusMinutes(1), null, null);
+		Proposal answered = save(owner, "answered", now.minusMinutes(1), null, Proposal.ProposalResponse.YES);
+		Proposal expired = save(owner, "expired", now.minusDays(1), now.minusMinutes(1), null);
+		Proposal later = save(owner, "later", now.plusDays(1), null, null);
+
+		scheduler.remind();
+		scheduler.remind();
+
+		verify(emailService, times(1)).sendProposalReminderEmail(eq(owner.getEmail()), anyString());
+		verify(emailService).sendProposalReminderEmail(owner.getEmail(), due.getShareableLink());
+
+		assertThat(reminderOf(due)).isNull();
+		assertThat(reminderOf(expired)).isNull();
+		assertThat(reminderOf(answered)).isNotNull();
+		assertThat(reminderOf(later)).isNotNull();
+
+		// A second node claiming the same proposal gets nothing
+		assertThat(proposalRepository.claimReminders(List.of(due.getId()), now)).isEmpty();
+	}
+
+	@Test
+	void aTickClaimsNoMoreThanTheSendQueueHasRoomFor() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		User owner = userRepository.save(User.builder()
+				.email("queued-" + System.nanoTime() + "@example.com")
+				.password("not-a-hash")
+				.build());
+		List<Proposal> due = List.of(
+				save(owner, "first", now.minusMinutes(3), null, null),
+				save(owner, "second", now.minusMinutes(2), null, null),
+				save(owner, "third", now.minusMinutes(1), null, null));
+
+		// Each send takes a queue slot, as the real @Async one does
+		doAnswer(invocation -> {
+			reminderTaskExecutor.execute(() -> {
+			});
+			return null;
+		}).when(emailService).sendProposalReminderEmail(anyString(), anyString());
+
+		// One busy sender and two queued sends leave room for a single reminder
+		CountDownLatch release = new CountDownLatch(1);
+		for (int i = 0; i < 3; i++) {
+			reminderTaskExecutor.execute(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		try {
+			scheduler.remind();
+		} finally {
+			release.countDown();
+		}
+		verify(emailService, times(1)).sendProposalReminderEmail(eq(owner.getEmail()), anyString());
+		assertThat(due.stream().filter(proposal -> reminderOf(proposal) != null)).hasSize(2);
+
+		while (reminderTaskExecutor.getQueueSize() > 0 || reminderTaskExecutor.getActiveCount() > 0) {
+			Thread.sleep(10);
+		}
+		scheduler.remind();
+		verify(emailService, times(3)).sendProposalReminderEmail(eq(owner.getEmail()), anyString());
+		assertThat(due.stream().filter(proposal -> reminderOf(proposal) != null)).isEmpty();
+	}
+
+	private Proposal save(User owner, String name, LocalDateTime reminderAt, LocalDateTime expiresAt,
+						  Proposal.ProposalResponse response) {
+		String token = name + System.nanoTime();
+		return proposalRepository.save(Proposal.builder()
+				.user(owner)
+				.uniqueToken(token)
+				.shareableLink("http://localhost:3000?proposal=" + token)
+				.nextReminderAt(reminderAt)
+				.expiresAt(expiresAt)
+				.response(response)
+				.build());
+	}
+
+	private LocalDateTime reminderOf(Proposal proposal) {
+		return proposalRepository.findById(proposal.getId()).orElseThrow().getNextReminderAt();
+	}
+}
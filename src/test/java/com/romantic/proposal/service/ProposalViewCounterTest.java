@@ -0,0 +1,76 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.repository.ProposalRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ProposalViewCounterTest {
+
+	private static final int RECORDERS = 4;
+	private static final int VIEWS_PER_RECORDER = 200_000;
+
+	@Test
+	void viewsRecordedWhileFlushingAreNeitherLostNorCountedTwice() throws Exception {
+		Map<UUID, Long> stored = new ConcurrentHashMap<>();
+		ProposalRepository repository = mock(ProposalRepository.class);
+		doAnswer(invocation -> {
+			Map<UUID, Long> deltas = invocation.getArgument(0);
+			deltas.forEach((id, delta) -> stored.merge(id, delta, Long::sum));
+			return null;
+		}).when(repository).addViewCounts(anyMap());
+		ProposalViewCounter counter = new ProposalViewCounter(repository);
+
+		// Many proposals viewed sparsely, so counters keep going idle and being dropped mid-stream
+		List<UUID> proposals = IntStream.range(0, 64).mapToObj(i -> UUID.randomUUID()).toList();
+		Map<UUID, LongAdder> recorded = new ConcurrentHashMap<>();
+		AtomicBoolean recording = new AtomicBoolean(true);
+
+		ExecutorService executor = Executors.newFixedThreadPool(RECORDERS + 1);
+		try {
+			Future<?> flusher = executor.submit(() -> {
+				while (recording.get()) {
+					counter.flush();
+				}
+			});
+			List<Future<?>> recorders = IntStream.range(0, RECORDERS).<Future<?>>mapToObj(i -> executor.submit(() -> {
+				for (int view = 0; view < VIEWS_PER_RECORDER; view++) {
+					UUID id = proposals.get(ThreadLocalRandom.current().nextInt(proposals.size()));
+					counter.recordView(id);
+					recorded.computeIfAbsent(id, key -> new LongAdder()).increment();
+				}
+			})).toList();
+			for (Future<?> recorder : recorders) {
+				recorder.get(1, TimeUnit.MINUTES);
+			}
+			recording.set(false);
+			flusher.get(1, TimeUnit.MINUTES);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Once for the pending deltas, once more for anything left on a dropped counter
+		counter.flush();
+		counter.flush();
+
+		assertThat(stored.values().stream().mapToLong(Long::longValue).sum()).isEqualTo((long) RECORDERS * VIEWS_PER_RECORDER);
+		proposals.forEach(id -> assertThat(stored.getOrDefault(id, 0L))
+				.isEqualTo(recorded.containsKey(id) ? recorded.get(id).sum() : 0L));
+	}
+}
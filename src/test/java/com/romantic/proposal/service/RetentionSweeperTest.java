@@ -0,0 +1,119 @@
+package com.romantic.proposal.service;
+
+import com.romantic.proposal.entity.Proposal;
+import com.romantic.proposal.entity.User;
+import com.romantic.proposal.repository.ProposalRepository;
+import com.romantic.proposal.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=true",
+		"app.retention.initial-delay=PT1H",
+		"app.retention.batch-size=2",
+		"app.retention.throttle=0ms",
+		"app.retention.proposal-mode=ARCHIVE",
+		"app.retention.notification-max-age=90d"
+})
+@AutoConfigureMockMvc
+class RetentionSweeperTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private RetentionSweeper sweeper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProposalRepository proposalRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private EmailService emailService;
+
+	@Test
+	void expiredProposalsAreGoneAndAreArchivedInBatches() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		User owner = userRepository.save(User.builder()
+				.email("retention-" + System.nanoTime() + "@example.com")
+				.password("not-a-hash")
+				.build());
+
+		// Five expired and unanswered: more than two batches of two
+		List<Proposal> expired = IntStream.range(0, 5)
+				.mapToObj(i -> save(owner, "expired", now.minusDays(1).plusMinutes(i), null))
+				.toList();
+		Proposal answered = save(owner, "answered", now.minusDays(1), Proposal.ProposalResponse.YES);
+		Proposal open = save(owner, "open", now.plusDays(1), null);
+
+		mockMvc.perform(post("/api/proposal/" + expired.get(0).getUniqueToken() + "/respond")
+						.contentType(MediaType.APPLICATION_JSON).content("{\"response\":\"YES\"}"))
+				.andExpect(status().isGone())
+				.andExpect(jsonPath("$.message").value("This proposal has expired"));
+
+		// Read and old enough: three of them, so notifications also take more than one batch
+		List<UUID> oldRead = List.of(notify(owner, answered, true, now.minusDays(91)),
+				notify(owner, answered, true, now.minusDays(92)),
+				notify(owner, answered, true, now.minusDays(93)));
+		UUID oldUnread = notify(owner, answered, false, now.minusDays(91));
+		UUID recentRead = notify(owner, answered, true, now.minusDays(1));
+
+		sweeper.sweep();
+
+		expired.forEach(proposal -> {
+			assertThat(proposalRepository.existsById(proposal.getId())).isFalse();
+			assertThat(jdbcTemplate.queryForObject("SELECT unique_token FROM proposal_archive WHERE id = ?",
+					String.class, proposal.getId())).isEqualTo(proposal.getUniqueToken());
+		});
+		assertThat(proposalRepository.existsById(answered.getId())).isTrue();
+		assertThat(proposalRepository.existsById(open.getId())).isTrue();
+
+		oldRead.forEach(id -> assertThat(notificationExists(id)).isFalse());
+		assertThat(notificationExists(oldUnread)).isTrue();
+		assertThat(notificationExists(recentRead)).isTrue();
+	}
+
+	private Proposal save(User owner, String name, LocalDateTime expiresAt, Proposal.ProposalResponse response) {
+		String token = name + System.nanoTime();
+		return proposalRepository.save(Proposal.builder()
+				.user(owner)
+				.uniqueToken(token)
+				.shareableLink("http://localhost:3000?proposal=" + token)
+				.expiresAt(expiresAt)
+				.response(response)
+				.build());
+	}
+
+	private UUID notify(User owner, Proposal proposal, boolean read, LocalDateTime createdAt) {
+		UUID id = UUID.randomUUID();
+		jdbcTemplate.update("INSERT INTO notifications (id, proposal_id, user_id, message, is_read, created_at) VALUES (?, ?, ?, 'Answered', ?, ?)",
+				id, proposal.getId(), owner.getId(), read, Timestamp.valueOf(createdAt));
+		return id;
+	}
+
+	private boolean notificationExists(UUID id) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE id = ?", Integer.class, id) > 0;
+	}
+}
@@ -0,0 +1,99 @@
+package com.romantic.proposal.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"app.retention.enabled=false",
+		"app.warmup.enabled=true",
+		"app.warmup.budget=PT3S",
+		"app.warmup.window=10",
+		"app.warmup.bcrypt-every=50",
+		"app.warmup.http-every=5",
+		// As in production: the per-request JWT debug lines must not reach the log
+		"logging.level.com.romantic=INFO"
+})
+class WarmUpRunnerTest {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private ApplicationAvailability availability;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ReadinessProbe readinessProbe;
+
+	@Test
+	void warmUpRunsBeforeReadinessAndLeavesNoData(CapturedOutput output) {
+		// Probed from inside run(), while the runner was warming up
+		assertThat(readinessProbe.duringWarmUp).isNotNull();
+		assertThat(readinessProbe.duringWarmUp.statusCode()).isEqualTo(503);
+		assertThat(readinessProbe.duringWarmUp.body()).contains("OUT_OF_SERVICE");
+
+		assertThat(meterRegistry.get("warmup.rounds").gauge().value()).isPositive();
+		assertThat(meterRegistry.get("warmup.duration").timeGauge().value(TimeUnit.MILLISECONDS)).isPositive();
+		assertThat(meterRegistry.get("warmup.rounds").gauge().getId().getTag("completion")).isNotEqualTo("failed");
+		assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM users WHERE email LIKE 'warmup-%@warmup.invalid'", Long.class)).isZero();
+
+		// Thousands of JWT rounds and warm-up requests, no per-call output
+		assertThat(output.getAll()).contains("Warm-up finished");
+		assertThat(output.getAll()).doesNotContain("JWT FILTER DEBUG", "Token generated", "Token validation");
+	}
+
+	@TestConfiguration
+	static class ReadinessProbeConfig {
+
+		@Bean
+		ReadinessProbe readinessProbe(Environment environment) {
+			return new ReadinessProbe(environment);
+		}
+	}
+
+	static class ReadinessProbe {
+
+		private final Environment environment;
+		volatile HttpResponse<String> duringWarmUp;
+
+		ReadinessProbe(Environment environment) {
+			this.environment = environment;
+		}
+
+		@EventListener
+		void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) throws Exception {
+			if (event.getSource() instanceof WarmUpRunner) {
+				String url = "http://localhost:" + environment.getProperty("local.server.port") + "/actuator/health/readiness";
+				duringWarmUp = HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(url)).build(),
+						HttpResponse.BodyHandlers.ofString());
+			}
+		}
+	}
+}
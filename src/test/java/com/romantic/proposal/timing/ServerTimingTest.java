@@ -0,0 +1,58 @@
+package com.romantic.proposal.timing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"app.retention.enabled=false",
+		"app.server-timing.enabled=false",
+		"app.server-timing.admin-token=s3cret"
+})
+@AutoConfigureMockMvc
+class ServerTimingTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private String credentials;
+
+	@BeforeEach
+	void registerUser() throws Exception {
+		credentials = "{\"email\":\"timing-" + System.nanoTime() + "@example.com\",\"password\":\"password123\"}";
+		mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void noHeaderWithoutAdminToken() throws Exception {
+		mockMvc.perform(login().header(ServerTimingFilter.ADMIN_HEADER, "wrong"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(ServerTimingFilter.HEADER));
+	}
+
+	@Test
+	void adminTokenBreaksLoginDownByPhase() throws Exception {
+		String timings = mockMvc.perform(login().header(ServerTimingFilter.ADMIN_HEADER, "s3cret"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(ServerTimingFilter.HEADER);
+
+		assertThat(timings)
+				.contains("jwt;dur=", "db;dur=", "bcrypt;dur=", "serialize;dur=", "total;dur=")
+				.doesNotContain("mail;dur=");
+	}
+
+	private MockHttpServletRequestBuilder login() {
+		return post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(credentials);
+	}
+}